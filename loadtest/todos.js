@@ -0,0 +1,38 @@
+// /todos 부하 테스트 (k6)
+// 가상 스레드 모드와 플랫폼 스레드 모드의 p99 지연/처리량 비교용
+//
+//   VIRTUAL_THREADS_ENABLED=true  ./gradlew bootRun   # 또는 false
+//   k6 run -e BASE_URL=http://localhost:8080 -e ACCESS_TOKEN=<access-token> loadtest/todos.js
+//
+// 두 모드의 결과에서 http_req_duration p(99) 와 http_reqs(rate)를 비교합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ACCESS_TOKEN = __ENV.ACCESS_TOKEN;
+
+export const options = {
+  scenarios: {
+    todos: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: 2000 },
+        { duration: '2m', target: 2000 },
+        { duration: '15s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export default function () {
+  const res = http.get(`${BASE_URL}/todos?page=0&size=20`, {
+    headers: { Authorization: `Bearer ${ACCESS_TOKEN}` },
+  });
+  check(res, { 'status is 200': (r) => r.status === 200 });
+}
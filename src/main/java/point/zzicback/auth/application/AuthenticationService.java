@@ -0,0 +1,52 @@
+package point.zzicback.auth.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import point.zzicback.common.error.*;
+import point.zzicback.member.application.MemberService;
+import point.zzicback.member.domain.Member;
+
+/**
+ * 이메일/비밀번호 검증
+ * 해싱 풀을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행하며,
+ * 회원 조회와 재해싱 저장만 각각 짧은 트랜잭션으로 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthenticationService {
+  private static final String INVALID_CREDENTIALS = "이메일 또는 패스워드가 올바르지 않습니다.";
+
+  private final MemberService memberService;
+  private final PasswordHashingService passwordHashingService;
+
+  public Member authenticate(String email, String password) {
+    Member member = memberService.findByEmail(email)
+        .orElseThrow(() -> new BusinessException(INVALID_CREDENTIALS));
+
+    if (member.getPassword() == null || member.getPassword().isEmpty()) {
+      return member;
+    }
+    if (password == null || !passwordHashingService.matches(password, member.getPassword())) {
+      throw new BusinessException(INVALID_CREDENTIALS);
+    }
+
+    rehashIfNeeded(member, password);
+    return member;
+  }
+
+  // 설정된 BCrypt cost 가 바뀌었으면 평문을 알고 있는 로그인 시점에 새 cost 로 재해싱
+  // 이미 검증된 로그인이므로 해싱 풀이 포화 상태면 건너뛰고 다음 로그인에서 다시 시도
+  private void rehashIfNeeded(Member member, String password) {
+    if (!passwordHashingService.needsRehash(member.getPassword())) {
+      return;
+    }
+    try {
+      String rehashed = passwordHashingService.encode(password);
+      memberService.updatePassword(member.getId(), member.getPassword(), rehashed);
+    } catch (ServiceUnavailableException e) {
+      log.debug("Password rehash skipped, hashing pool saturated: memberId={}", member.getId());
+    }
+  }
+}
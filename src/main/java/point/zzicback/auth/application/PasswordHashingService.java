@@ -0,0 +1,93 @@
+package point.zzicback.auth.application;
+
+import io.micrometer.core.instrument.*;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import point.zzicback.auth.config.properties.PasswordHashingProperties;
+import point.zzicback.common.error.ServiceUnavailableException;
+
+import java.util.concurrent.*;
+import java.util.regex.*;
+
+/**
+ * 비밀번호 해싱/검증을 요청 스레드가 아닌 전용 스레드 풀에서 실행합니다.
+ * 풀과 대기열이 모두 차면 기다리지 않고 {@link ServiceUnavailableException} (503) 으로 거절하여
+ * 로그인 폭주가 다른 요청의 스레드와 CPU 를 잠식하지 않도록 합니다.
+ */
+@Service
+public class PasswordHashingService implements DisposableBean {
+  private static final String SATURATED_MESSAGE = "로그인 요청이 많아 잠시 후 다시 시도해주세요.";
+  private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingProperties properties;
+  private final ThreadPoolExecutor executor;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Counter rejections;
+
+  public PasswordHashingService(PasswordEncoder passwordEncoder, PasswordHashingProperties properties,
+                                MeterRegistry meterRegistry) {
+    this.passwordEncoder = passwordEncoder;
+    this.properties = properties;
+    this.executor = new ThreadPoolExecutor(properties.threads(), properties.threads(), 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(properties.queueCapacity()),
+        Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+        new ThreadPoolExecutor.AbortPolicy());
+    this.encodeTimer = Timer.builder("password.hash.duration").tag("operation", "encode")
+        .description("비밀번호 해싱 소요 시간").register(meterRegistry);
+    this.matchesTimer = Timer.builder("password.hash.duration").tag("operation", "matches")
+        .description("비밀번호 해싱 소요 시간").register(meterRegistry);
+    this.rejections = Counter.builder("password.hash.rejections")
+        .description("해싱 풀 포화로 거절된 요청 수").register(meterRegistry);
+    Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+        .description("해싱 대기 중인 요청 수").register(meterRegistry);
+    Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("해싱 중인 스레드 수").register(meterRegistry);
+  }
+
+  public String encode(String rawPassword) {
+    return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+  }
+
+  public boolean matches(String rawPassword, String encodedPassword) {
+    return submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+  }
+
+  /**
+   * 저장된 해시의 cost 가 현재 설정(password.hashing.strength)과 다르면 true
+   * 설정을 낮춘 경우도 포함하므로 cost 를 CPU 상황에 맞춰 양방향으로 조정할 수 있습니다.
+   */
+  public boolean needsRehash(String encodedPassword) {
+    Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+    return matcher.find() && Integer.parseInt(matcher.group(1)) != properties.strength();
+  }
+
+  private <T> T submit(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      rejections.increment();
+      throw new ServiceUnavailableException(SATURATED_MESSAGE, properties.retryAfter());
+    }
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ServiceUnavailableException(SATURATED_MESSAGE, properties.retryAfter());
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+}
@@ -8,7 +8,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 import point.zzicback.auth.config.properties.JwtProperties;
 import point.zzicback.auth.domain.*;
-import point.zzicback.common.error.BusinessException;
+import point.zzicback.auth.infrastructure.jwt.JwtClaimReader;
+import point.zzicback.common.error.*;
 import point.zzicback.member.application.MemberService;
 import point.zzicback.member.domain.Member;
 
@@ -63,20 +64,8 @@ public class TokenService {
 
   public String extractClaim(String token, String claimName) {
     try {
-      String[] parts = token.split("\\.");
-      if (parts.length < 2) {
-        throw new IllegalArgumentException("Invalid JWT format");
-      }
-      String payloadJson = new String(Base64.getUrlDecoder().decode(parts[1]));
-      String target = "\"" + claimName + "\"";
-      int start = payloadJson.indexOf(target);
-      if (start == -1)
-        return null;
-      int colon = payloadJson.indexOf(':', start);
-      int valueStart = payloadJson.indexOf('"', colon + 1) + 1;
-      int valueEnd = payloadJson.indexOf('"', valueStart);
-      return payloadJson.substring(valueStart, valueEnd);
-    } catch (Exception e) {
+      return JwtClaimReader.read(token, claimName);
+    } catch (IllegalArgumentException e) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "토큰 파싱 실패", e);
     }
   }
@@ -90,9 +79,24 @@ public class TokenService {
     }
   }
 
-  public void save(String deviceId, String refreshToken) {
+  public void save(String memberId, String deviceId, String refreshToken) {
     long refreshSeconds = jwtProperties.refreshToken().expiration();
-    tokenRepository.save(deviceId, refreshToken, refreshSeconds);
+    tokenRepository.save(memberId, deviceId, refreshToken, refreshSeconds);
+  }
+
+  public Set<String> getSessionDeviceIds(UUID memberId) {
+    return tokenRepository.findKeysByOwner(memberId.toString());
+  }
+
+  public void revokeSession(UUID memberId, String deviceId) {
+    if (!tokenRepository.findKeysByOwner(memberId.toString()).contains(deviceId)) {
+      throw new EntityNotFoundException("Session", deviceId);
+    }
+    tokenRepository.delete(deviceId);
+  }
+
+  public void revokeAllSessions(UUID memberId) {
+    tokenRepository.deleteAllByOwner(memberId.toString());
   }
 
   public void deleteByToken(String refreshToken) {
@@ -105,12 +109,19 @@ public class TokenService {
     return refreshToken.equals(storedToken);
   }
 
+  /**
+   * 기존 리프레시 토큰을 새 토큰으로 원자적으로 교체합니다.
+   * 저장된 토큰과 다르면 (재사용 또는 동시 갱신) 해당 기기의 토큰을 폐기하고 실패합니다.
+   */
   public TokenPair refreshTokens(String deviceId, String oldRefreshToken) {
-    validateAndDeleteInvalidToken(deviceId, oldRefreshToken);
-    
+    if (!isValidToken(oldRefreshToken)) {
+      tokenRepository.delete(deviceId);
+      throw new BusinessException("Invalid refresh token");
+    }
+
     UUID memberId = UUID.fromString(extractClaim(oldRefreshToken, SUB_CLAIM));
     Member member = memberService.findVerifiedMember(memberId);
-    
+
     String newAccessToken = generateAccessToken(
             memberId.toString(),
             member.getEmail(),
@@ -118,16 +129,12 @@ public class TokenService {
             member.getTimeZone(),
             member.getLocale());
     String newRefreshToken = generateRefreshToken(memberId.toString(), deviceId);
-    save(deviceId, newRefreshToken);
-    
-    return new TokenPair(newAccessToken, newRefreshToken);
-  }
-
-  private void validateAndDeleteInvalidToken(String deviceId, String refreshToken) {
-    if (!isValidToken(refreshToken) || !isValidRefreshToken(deviceId, refreshToken)) {
-      tokenRepository.delete(deviceId);
+    long refreshSeconds = jwtProperties.refreshToken().expiration();
+    if (!tokenRepository.rotate(memberId.toString(), deviceId, oldRefreshToken, newRefreshToken, refreshSeconds)) {
       throw new BusinessException("Invalid refresh token");
     }
+
+    return new TokenPair(newAccessToken, newRefreshToken);
   }
 
   public record TokenPair(
@@ -144,7 +151,7 @@ public class TokenService {
             member.timeZone(),
             member.locale());
     String refreshToken = generateRefreshToken(member.idAsString(), deviceId);
-    save(deviceId, refreshToken);
+    save(member.idAsString(), deviceId, refreshToken);
     return new TokenResult(accessToken, refreshToken, deviceId);
   }
 
@@ -15,6 +15,7 @@ import org.springframework.security.oauth2.jwt.*;
 import org.springframework.security.oauth2.server.resource.authentication.*;
 import org.springframework.util.StreamUtils;
 import point.zzicback.auth.config.properties.JwtProperties;
+import point.zzicback.auth.infrastructure.jwt.*;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
@@ -69,8 +70,8 @@ public class JwtConfig {
   }
 
   @Bean
-  public JwtDecoder jwtDecoder() {
-    return NimbusJwtDecoder.withPublicKey(publicKey).build();
+  public JwtDecoder jwtDecoder(VerifiedJwtCache verifiedJwtCache) {
+    return new CachingJwtDecoder(NimbusJwtDecoder.withPublicKey(publicKey).build(), verifiedJwtCache);
   }
 
   @Bean
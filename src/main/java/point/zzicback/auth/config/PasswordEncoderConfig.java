@@ -3,12 +3,13 @@ package point.zzicback.auth.config;
 import org.springframework.context.annotation.*;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import point.zzicback.auth.config.properties.PasswordHashingProperties;
 
 @Configuration
 public class PasswordEncoderConfig {
   
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+    return new BCryptPasswordEncoder(properties.strength());
   }
 }
@@ -0,0 +1,21 @@
+package point.zzicback.auth.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param strength      BCrypt cost (변경하면 다음 로그인 시 기존 해시를 새 cost 로 재해싱)
+ * @param threads       해싱 전용 스레드 수 (기본값: CPU 코어 수)
+ * @param queueCapacity 해싱 대기열 크기 (가득 차면 즉시 503)
+ * @param retryAfter    503 응답의 Retry-After
+ */
+@ConfigurationProperties(prefix = "password.hashing")
+public record PasswordHashingProperties(int strength, int threads, int queueCapacity, Duration retryAfter) {
+  public PasswordHashingProperties {
+    strength = strength > 0 ? strength : 10;
+    threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    queueCapacity = queueCapacity > 0 ? queueCapacity : 64;
+    retryAfter = retryAfter != null ? retryAfter : Duration.ofSeconds(1);
+  }
+}
@@ -1,13 +1,24 @@
 package point.zzicback.auth.domain;
 
+import java.util.Set;
+
 /**
  * Token 저장을 위한 Repository 인터페이스
  * DDD 원칙에 따라 도메인 계층에 위치
  * 구현체는 Infrastructure 계층에서 담당
+ * 각 키는 소유 회원(ownerId) 기준 보조 인덱스에도 등록되어, 회원 단위 조회/일괄 삭제가 O(기기 수)로 처리됩니다.
  */
 public interface TokenRepository {
-  void save(String key, String value, long expirationSeconds);
+  void save(String ownerId, String key, String value, long expirationSeconds);
+
+  /**
+   * 저장된 값이 expectedValue 일 때만 newValue 로 원자적으로 교체합니다 (TTL 갱신 포함).
+   * 값이 다르거나 없으면 (재사용/동시 갱신) 키를 삭제하고 false 를 반환합니다.
+   */
+  boolean rotate(String ownerId, String key, String expectedValue, String newValue, long expirationSeconds);
   String get(String key);
   void delete(String key);
   boolean exists(String key);
+  Set<String> findKeysByOwner(String ownerId);
+  void deleteAllByOwner(String ownerId);
 }
@@ -0,0 +1,18 @@
+package point.zzicback.auth.infrastructure.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.jwt.*;
+
+/**
+ * 이미 검증한 토큰은 VerifiedJwtCache 에서 돌려주어 반복 요청의 RSA 서명 검증과 클레임 파싱을 생략합니다.
+ */
+@RequiredArgsConstructor
+public class CachingJwtDecoder implements JwtDecoder {
+  private final JwtDecoder delegate;
+  private final VerifiedJwtCache cache;
+
+  @Override
+  public Jwt decode(String token) throws JwtException {
+    return cache.get(token, delegate::decode);
+  }
+}
@@ -1,5 +1,6 @@
 package point.zzicback.auth.infrastructure.jwt;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.*;
@@ -11,9 +12,17 @@ import point.zzicback.auth.domain.MemberPrincipal;
 import java.util.*;
 
 @Component
+@RequiredArgsConstructor
 public class CustomJwtAuthConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+  private final VerifiedJwtCache verifiedJwtCache;
+
   @Override
   public AbstractAuthenticationToken convert(@NonNull Jwt jwt) {
+    MemberPrincipal principal = verifiedJwtCache.principal(jwt, this::toPrincipal);
+    return new UsernamePasswordAuthenticationToken(principal, jwt, principal.authorities());
+  }
+
+  private MemberPrincipal toPrincipal(Jwt jwt) {
     UUID id = UUID.fromString(jwt.getSubject());
     String email = jwt.getClaimAsString("email");
     String nickname = jwt.getClaimAsString("nickname");
@@ -23,7 +32,6 @@ public class CustomJwtAuthConverter implements Converter<Jwt, AbstractAuthentica
     List<SimpleGrantedAuthority> authorities = scopeString == null
             ? Collections.emptyList()
             : Arrays.stream(scopeString.split(" ")).map(SimpleGrantedAuthority::new).toList();
-    MemberPrincipal principal = MemberPrincipal.from(id, email, nickname, timeZone, locale, authorities);
-    return new UsernamePasswordAuthenticationToken(principal, jwt, authorities);
+    return MemberPrincipal.from(id, email, nickname, timeZone, locale, authorities);
   }
 }
@@ -0,0 +1,47 @@
+package point.zzicback.auth.infrastructure.jwt;
+
+import com.fasterxml.jackson.core.*;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * 서명 검증 없이 JWT payload 에서 최상위 클레임 하나를 읽습니다.
+ * payload 를 byte[] 로만 디코딩하고 Jackson 스트리밍 파서로 필드를 순회하여, 찾는 클레임에서 바로 멈춥니다.
+ */
+public final class JwtClaimReader {
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private JwtClaimReader() {
+  }
+
+  /**
+   * @return 클레임 값 (문자열/숫자/불리언은 문자열로), 없거나 null/객체/배열이면 null
+   * @throws IllegalArgumentException JWT 형식이 아니거나 payload 를 읽을 수 없는 경우
+   */
+  public static String read(String token, String claimName) {
+    int payloadStart = token.indexOf('.') + 1;
+    int payloadEnd = token.indexOf('.', payloadStart);
+    if (payloadStart == 0 || payloadEnd < 0) {
+      throw new IllegalArgumentException("Invalid JWT format");
+    }
+    byte[] payload = Base64.getUrlDecoder().decode(token.substring(payloadStart, payloadEnd));
+
+    try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalArgumentException("Invalid JWT payload");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if (claimName.equals(fieldName)) {
+          return value.isScalarValue() && value != JsonToken.VALUE_NULL ? parser.getValueAsString() : null;
+        }
+        parser.skipChildren();
+      }
+      return null;
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Invalid JWT payload", e);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package point.zzicback.auth.infrastructure.jwt;
+
+import com.github.benmanes.caffeine.cache.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import point.zzicback.auth.domain.MemberPrincipal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.time.*;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 마친 JWT와 그로부터 만든 MemberPrincipal을 토큰 자체의 exp 까지 캐시합니다.
+ * 키는 토큰 원문이 아닌 SHA-256 다이제스트를 사용하며, 최대 크기를 넘으면 크기 기반으로 제거됩니다.
+ * 적중률은 cache.gets / cache.evictions 등 (cache=jwt.verified, jwt.principal) 메트릭으로 확인합니다.
+ */
+@Component
+public class VerifiedJwtCache {
+  private final Cache<String, Jwt> verified;
+  private final Cache<Jwt, MemberPrincipal> principals;
+
+  public VerifiedJwtCache(MeterRegistry meterRegistry,
+                          @Value("${jwt.verified-cache.max-size:10000}") long maxSize) {
+    this.verified = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(Expiry.creating((String key, Jwt jwt) -> remainingLifetime(jwt)))
+        .recordStats()
+        .build();
+    // 캐시된 Jwt 인스턴스 기준 (identity) 으로 principal 을 보관하여 Jwt 가 제거되면 함께 정리됨
+    this.principals = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .weakKeys()
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwt.verified");
+    CaffeineCacheMetrics.monitor(meterRegistry, principals, "jwt.principal");
+  }
+
+  public Jwt get(String token, Function<String, Jwt> verifier) {
+    String key = digest(token);
+    Jwt cached = verified.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    Jwt jwt = verifier.apply(token);
+    if (jwt.getExpiresAt() != null) {
+      verified.put(key, jwt);
+    }
+    return jwt;
+  }
+
+  public MemberPrincipal principal(Jwt jwt, Function<Jwt, MemberPrincipal> factory) {
+    return principals.get(jwt, factory);
+  }
+
+  private static Duration remainingLifetime(Jwt jwt) {
+    Duration remaining = Duration.between(Instant.now(), jwt.getExpiresAt());
+    return remaining.isNegative() ? Duration.ZERO : remaining;
+  }
+
+  private static String digest(String token) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
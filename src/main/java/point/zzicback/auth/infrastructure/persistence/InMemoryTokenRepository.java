@@ -1,33 +1,100 @@
 package point.zzicback.auth.infrastructure.persistence;
 
+import io.micrometer.core.instrument.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 import point.zzicback.auth.domain.TokenRepository;
 
-import java.time.LocalDateTime;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * InMemory 기반 TokenRepository 구현체
  * Infrastructure 계층에 위치 - 기술적 구현사항을 담당
  * 개발/테스트 환경에서 사용하는 Infrastructure 컴포넌트
+ * 만료 시각(nanoTime) 순 우선순위 큐로 주기적으로 만료 항목을 정리하고,
+ * 최대 크기를 넘으면 만료가 가장 임박한 항목부터 제거합니다.
+ * 회원별 키 목록은 ownerIndex 로 관리하며 항목 제거 시 함께 정리됩니다.
  */
 @Repository
 @Profile("!redis")
 public class InMemoryTokenRepository implements TokenRepository {
   private final ConcurrentMap<String, TokenEntry> store = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Set<String>> ownerIndex = new ConcurrentHashMap<>();
+  private final PriorityQueue<TokenEntry> expiryQueue = new PriorityQueue<>(Comparator.comparingLong(TokenEntry::expiresAtNanos));
+  // 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 사용
+  private final ReentrantLock expiryLock = new ReentrantLock();
+  private final int maxSize;
+  private final Counter expiredEvictions;
+  private final Counter sizeEvictions;
+
+  public InMemoryTokenRepository(MeterRegistry meterRegistry,
+                                 @Value("${token.store.max-size:100000}") int maxSize) {
+    this.maxSize = maxSize;
+    this.expiredEvictions = Counter.builder("token.store.evictions").tag("cause", "expired").register(meterRegistry);
+    this.sizeEvictions = Counter.builder("token.store.evictions").tag("cause", "size").register(meterRegistry);
+    Gauge.builder("token.store.size", store, Map::size).register(meterRegistry);
+  }
+
+  @Override
+  public void save(String ownerId, String key, String value, long expirationSeconds) {
+    TokenEntry entry = new TokenEntry(ownerId, key, value, System.nanoTime() + TimeUnit.SECONDS.toNanos(expirationSeconds));
+    expiryLock.lock();
+    try {
+      if (!store.containsKey(key)) {
+        while (store.size() >= maxSize && evictEarliest()) {
+          sizeEvictions.increment();
+        }
+      }
+      TokenEntry previous = store.put(key, entry);
+      if (previous != null && !previous.ownerId().equals(ownerId)) {
+        unindex(previous);
+      }
+      ownerIndex.computeIfAbsent(ownerId, id -> ConcurrentHashMap.newKeySet()).add(key);
+      expiryQueue.add(entry);
+      compactIfStale();
+    } finally {
+      expiryLock.unlock();
+    }
+  }
 
   @Override
-  public void save(String key, String value, long expirationSeconds) {
-    LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(expirationSeconds);
-    store.put(key, new TokenEntry(value, expiresAt));
+  public boolean rotate(String ownerId, String key, String expectedValue, String newValue, long expirationSeconds) {
+    TokenEntry current = store.get(key);
+    if (current == null || current.isExpired(System.nanoTime()) || !current.value().equals(expectedValue)) {
+      delete(key);
+      return false;
+    }
+    TokenEntry next = new TokenEntry(ownerId, key, newValue, System.nanoTime() + TimeUnit.SECONDS.toNanos(expirationSeconds));
+    if (!store.replace(key, current, next)) {
+      delete(key);
+      return false;
+    }
+    if (!current.ownerId().equals(ownerId)) {
+      unindex(current);
+    }
+    ownerIndex.computeIfAbsent(ownerId, id -> ConcurrentHashMap.newKeySet()).add(key);
+    expiryLock.lock();
+    try {
+      expiryQueue.add(next);
+      compactIfStale();
+    } finally {
+      expiryLock.unlock();
+    }
+    return true;
   }
 
   @Override
   public String get(String key) {
     TokenEntry entry = store.get(key);
-    if (entry == null || LocalDateTime.now().isAfter(entry.expiresAt())) {
-      store.remove(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired(System.nanoTime())) {
+      remove(entry);
       return null;
     }
     return entry.value();
@@ -35,19 +102,94 @@ public class InMemoryTokenRepository implements TokenRepository {
 
   @Override
   public void delete(String key) {
-    store.remove(key);
+    TokenEntry entry = store.get(key);
+    if (entry != null) {
+      remove(entry);
+    }
   }
 
   @Override
   public boolean exists(String key) {
-    TokenEntry entry = store.get(key);
-    boolean exists = entry != null && LocalDateTime.now().isBefore(entry.expiresAt());
-    if (!exists) {
-      store.remove(key);
+    return get(key) != null;
+  }
+
+  @Override
+  public Set<String> findKeysByOwner(String ownerId) {
+    Set<String> keys = ownerIndex.getOrDefault(ownerId, Set.of());
+    Set<String> live = new LinkedHashSet<>();
+    for (String key : keys) {
+      if (get(key) != null) {
+        live.add(key);
+      }
     }
-    return exists;
+    return live;
   }
 
-  private record TokenEntry(String value, LocalDateTime expiresAt) {
+  @Override
+  public void deleteAllByOwner(String ownerId) {
+    Set<String> keys = ownerIndex.remove(ownerId);
+    if (keys != null) {
+      keys.forEach(key -> store.computeIfPresent(key, (k, entry) -> entry.ownerId().equals(ownerId) ? null : entry));
+    }
+  }
+
+  /**
+   * 만료 시각이 지난 항목을 큐의 앞에서부터 제거합니다.
+   */
+  @Scheduled(fixedDelayString = "${token.store.sweep-interval:30s}")
+  public void sweepExpired() {
+    long now = System.nanoTime();
+    expiryLock.lock();
+    try {
+      TokenEntry head;
+      while ((head = expiryQueue.peek()) != null && head.isExpired(now)) {
+        expiryQueue.poll();
+        if (remove(head)) {
+          expiredEvictions.increment();
+        }
+      }
+    } finally {
+      expiryLock.unlock();
+    }
+  }
+
+  // 큐 앞에서 아직 저장소에 남아 있는 항목 하나를 제거 (덮어쓰기/삭제된 항목은 건너뜀)
+  private boolean evictEarliest() {
+    TokenEntry head;
+    while ((head = expiryQueue.poll()) != null) {
+      if (remove(head)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean remove(TokenEntry entry) {
+    if (!store.remove(entry.key(), entry)) {
+      return false;
+    }
+    unindex(entry);
+    return true;
+  }
+
+  private void unindex(TokenEntry entry) {
+    ownerIndex.computeIfPresent(entry.ownerId(), (ownerId, keys) -> {
+      keys.remove(entry.key());
+      return keys.isEmpty() ? null : keys;
+    });
+  }
+
+  // 덮어쓰기/삭제로 큐에 남은 항목이 많아지면 저장소 기준으로 큐를 다시 구성
+  private void compactIfStale() {
+    if (expiryQueue.size() > store.size() * 2 + 1024) {
+      expiryQueue.clear();
+      expiryQueue.addAll(store.values());
+    }
+  }
+
+  private record TokenEntry(String ownerId, String key, String value, long expiresAtNanos) {
+    boolean isExpired(long nowNanos) {
+      return nowNanos - expiresAtNanos >= 0;
+    }
   }
 }
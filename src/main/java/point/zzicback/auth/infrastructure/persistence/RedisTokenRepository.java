@@ -2,26 +2,61 @@ package point.zzicback.auth.infrastructure.persistence;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 import point.zzicback.auth.domain.TokenRepository;
 
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Redis 기반 TokenRepository 구현체
  * Infrastructure 계층에 위치 - 기술적 구현사항을 담당
  * 프로덕션 환경에서 사용하는 Infrastructure 컴포넌트
+ * 회원별 기기 목록은 set(token:owner:{ownerId})으로 관리하며, 만료/삭제된 기기는 목록 조회 시 정리됩니다.
  */
 @Repository
 @RequiredArgsConstructor
 @Profile("redis")
 public class RedisTokenRepository implements TokenRepository {
+  private static final String OWNER_KEY_PREFIX = "token:owner:";
+  // KEYS[1]=토큰 키, KEYS[2]=회원 인덱스, ARGV[1]=기존 값, ARGV[2]=새 값, ARGV[3]=TTL(초)
+  private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of("""
+      local current = redis.call('GET', KEYS[1])
+      if current == ARGV[1] then
+        redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+        redis.call('SADD', KEYS[2], KEYS[1])
+        redis.call('EXPIRE', KEYS[2], ARGV[3])
+        return 1
+      end
+      redis.call('DEL', KEYS[1])
+      return 0
+      """, Long.class);
+
   private final RedisTemplate<String, String> redisTemplate;
 
   @Override
-  public void save(String key, String value, long expirationSeconds) {
-    redisTemplate.opsForValue().set(key, value, expirationSeconds, TimeUnit.SECONDS);
+  public void save(String ownerId, String key, String value, long expirationSeconds) {
+    String ownerKey = ownerKey(ownerId);
+    redisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public Object execute(RedisOperations operations) throws DataAccessException {
+        operations.opsForValue().set(key, value, expirationSeconds, TimeUnit.SECONDS);
+        operations.opsForSet().add(ownerKey, key);
+        operations.expire(ownerKey, expirationSeconds, TimeUnit.SECONDS);
+        return null;
+      }
+    });
+  }
+
+  @Override
+  public boolean rotate(String ownerId, String key, String expectedValue, String newValue, long expirationSeconds) {
+    Long rotated = redisTemplate.execute(ROTATE_SCRIPT, List.of(key, ownerKey(ownerId)),
+        expectedValue, newValue, String.valueOf(expirationSeconds));
+    return rotated != null && rotated == 1L;
   }
 
   @Override
@@ -38,4 +73,45 @@ public class RedisTokenRepository implements TokenRepository {
   public boolean exists(String key) {
     return redisTemplate.hasKey(key);
   }
+
+  @Override
+  public Set<String> findKeysByOwner(String ownerId) {
+    String ownerKey = ownerKey(ownerId);
+    Set<String> members = redisTemplate.opsForSet().members(ownerKey);
+    if (members == null || members.isEmpty()) {
+      return Set.of();
+    }
+    List<String> keys = new ArrayList<>(members);
+    List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+    Set<String> live = new LinkedHashSet<>();
+    List<String> stale = new ArrayList<>();
+    for (int i = 0; i < keys.size(); i++) {
+      if (values != null && values.get(i) != null) {
+        live.add(keys.get(i));
+      } else {
+        stale.add(keys.get(i));
+      }
+    }
+    if (!stale.isEmpty()) {
+      redisTemplate.opsForSet().remove(ownerKey, stale.toArray());
+    }
+    return live;
+  }
+
+  @Override
+  public void deleteAllByOwner(String ownerId) {
+    String ownerKey = ownerKey(ownerId);
+    Set<String> members = redisTemplate.opsForSet().members(ownerKey);
+    List<String> keys = new ArrayList<>();
+    if (members != null) {
+      keys.addAll(members);
+    }
+    keys.add(ownerKey);
+    redisTemplate.delete(keys);
+  }
+
+  private String ownerKey(String ownerId) {
+    return OWNER_KEY_PREFIX + ownerId;
+  }
 }
@@ -6,14 +6,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
-import point.zzicback.auth.application.TokenService;
+import org.springframework.web.server.ResponseStatusException;
+import point.zzicback.auth.application.*;
 import point.zzicback.auth.domain.MemberPrincipal;
 import point.zzicback.auth.presentation.dto.*;
-import point.zzicback.common.error.BusinessException;
+import point.zzicback.common.error.*;
 import point.zzicback.member.application.MemberService;
 import point.zzicback.member.application.dto.command.CreateMemberCommand;
 import point.zzicback.member.domain.Member;
@@ -25,13 +26,13 @@ import java.util.List;
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/auth")
-@Transactional
 public class AuthController {
   private static final String USER_ROLE = "ROLE_USER";
   private static final String ANON_EMAIL = "anon@zzic.com";
   
   private final MemberService memberService;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingService passwordHashingService;
+  private final AuthenticationService authenticationService;
   private final TokenService tokenService;
   private final CookieService cookieService;
   private final TodoInitializer todoInitializer;
@@ -44,13 +45,12 @@ public class AuthController {
   public void signUpAndIn(@Valid @RequestBody SignUpRequest request, HttpServletResponse response) {
     CreateMemberCommand signUpCommand = new CreateMemberCommand(
             request.email(),
-            passwordEncoder.encode(request.password()),
+            passwordHashingService.encode(request.password()),
             request.nickname(),
             request.introduction(),
             request.timeZone(),
             request.locale());
-    memberService.createMember(signUpCommand);
-    Member member = authenticateMember(request.email(), request.password());
+    Member member = memberService.createMember(signUpCommand);
     List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(USER_ROLE));
     MemberPrincipal memberPrincipal = MemberPrincipal.from(member, authorities);
     authenticateWithCookies(memberPrincipal, response);
@@ -80,9 +80,8 @@ public class AuthController {
   @ApiResponse(responseCode = "200", description = "사인-인 성공, 쿠키에 토큰 발급")
   @ApiResponse(responseCode = "401", description = "인증 실패")
   @PostMapping("/sign-in")
-  @Transactional(readOnly = true)
   public void signIn(@Valid @RequestBody SignInRequest request, HttpServletResponse response) {
-    Member member = authenticateMember(request.email(), request.password());
+    Member member = authenticationService.authenticate(request.email(), request.password());
     List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(USER_ROLE));
     MemberPrincipal memberPrincipal = MemberPrincipal.from(member, authorities);
     
@@ -108,27 +107,56 @@ public class AuthController {
   @ApiResponse(responseCode = "200", description = "토큰 갱신 성공")
   @ApiResponse(responseCode = "401", description = "토큰 갱신 실패")
   @GetMapping("/refresh")
-  public void refresh() {
-  }
-
-  private Member authenticateMember(String email, String password) {
+  public void refresh(@CookieValue(name = "refresh-token", required = false) String refreshToken, HttpServletResponse response) {
+    if (refreshToken == null) {
+      response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+      return;
+    }
     try {
-      Member member = memberService.findByEmailOrThrow(email);
-      
-      if (member.getPassword() == null || member.getPassword().isEmpty()) {
-        return member;
+      String deviceId = tokenService.extractClaim(refreshToken, TokenService.DEVICE_CLAIM);
+      if (deviceId == null) {
+        throw new BusinessException("Invalid refresh token");
       }
-      
-      if (password != null && passwordEncoder.matches(password, member.getPassword())) {
-        return member;
-      }
-      
-      throw new BusinessException("이메일 또는 패스워드가 올바르지 않습니다.");
-    } catch (Exception e) {
-      throw new BusinessException("이메일 또는 패스워드가 올바르지 않습니다.");
+      TokenService.TokenPair tokens = tokenService.refreshTokens(deviceId, refreshToken);
+      cookieService.setJwtCookie(response, tokens.accessToken());
+      cookieService.setRefreshCookie(response, tokens.refreshToken());
+    } catch (BusinessException | EntityNotFoundException | ResponseStatusException e) {
+      response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+      cookieService.setExpiredJwtCookie(response);
+      cookieService.setExpiredRefreshCookie(response);
     }
   }
 
+  @Operation(summary = "로그인 세션 목록 조회", description = "내 계정으로 로그인된 기기(리프레시 토큰) 목록을 조회합니다.")
+  @ApiResponse(responseCode = "200", description = "세션 목록 조회 성공")
+  @GetMapping("/sessions")
+  public List<SessionResponse> getSessions(@AuthenticationPrincipal MemberPrincipal principal,
+                                           @CookieValue(name = "refresh-token", required = false) String refreshToken) {
+    String currentDeviceId = refreshToken != null ? tokenService.extractClaim(refreshToken, TokenService.DEVICE_CLAIM) : null;
+    return tokenService.getSessionDeviceIds(principal.id()).stream()
+            .map(deviceId -> new SessionResponse(deviceId, deviceId.equals(currentDeviceId)))
+            .toList();
+  }
+
+  @Operation(summary = "로그인 세션 해지", description = "특정 기기의 리프레시 토큰을 폐기합니다.")
+  @ApiResponse(responseCode = "204", description = "세션 해지 성공")
+  @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음")
+  @DeleteMapping("/sessions/{deviceId}")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public void revokeSession(@AuthenticationPrincipal MemberPrincipal principal, @PathVariable String deviceId) {
+    tokenService.revokeSession(principal.id(), deviceId);
+  }
+
+  @Operation(summary = "전체 로그인 세션 해지", description = "내 계정의 모든 기기의 리프레시 토큰을 폐기합니다.")
+  @ApiResponse(responseCode = "204", description = "전체 세션 해지 성공")
+  @DeleteMapping("/sessions")
+  @ResponseStatus(HttpStatus.NO_CONTENT)
+  public void revokeAllSessions(@AuthenticationPrincipal MemberPrincipal principal, HttpServletResponse response) {
+    tokenService.revokeAllSessions(principal.id());
+    cookieService.setExpiredJwtCookie(response);
+    cookieService.setExpiredRefreshCookie(response);
+  }
+
   private void authenticateWithCookies(MemberPrincipal member, HttpServletResponse response) {
     TokenService.TokenResult tokens = tokenService.generateTokens(member);
     
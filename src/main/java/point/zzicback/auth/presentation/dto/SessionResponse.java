@@ -0,0 +1,9 @@
+package point.zzicback.auth.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "로그인 세션(기기) 응답 DTO")
+public record SessionResponse(
+        @Schema(description = "기기 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6") String deviceId,
+        @Schema(description = "현재 요청을 보낸 기기 여부", example = "true") boolean current) {
+}
@@ -2,79 +2,45 @@ package point.zzicback.auth.security.resolver;
 
 import jakarta.servlet.http.*;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.server.resource.web.*;
 import org.springframework.stereotype.Component;
 import point.zzicback.auth.config.properties.JwtProperties;
+import point.zzicback.common.diagnostics.RequestDiagnostics;
 
-import java.util.*;
-import java.util.stream.Collectors;
-
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class MultiBearerTokenResolver implements BearerTokenResolver {
   private final DefaultBearerTokenResolver defaultResolver = new DefaultBearerTokenResolver();
   private final JwtProperties jwtProperties;
+  private final RequestDiagnostics diagnostics;
 
   @Override
   public String resolve(HttpServletRequest request) {
-    // 요청 URL 로깅
-    log.info("Processing request for URL: {}", request.getRequestURL().toString());
-
-    // 헤더 정보 로깅
-    logHeaders(request);
-
     String token = defaultResolver.resolve(request);
     if (token != null) {
-      log.info("Token found in Authorization header");
+      diagnostics.record(request, "bearer-token.resolved", () -> "authorization-header");
       return token;
     }
 
-    log.info("Token not found in Authorization header, checking cookies");
-    if (request.getCookies() != null) {
-      log.info("Found {} cookies in request", request.getCookies().length);
-
-      // 모든 쿠키 이름 로깅
-      String cookieNames = Arrays.stream(request.getCookies())
-          .map(Cookie::getName)
-          .collect(Collectors.joining(", "));
-      log.info("Available cookies: {}", cookieNames);
-
-      // JWT 쿠키 설정 이름 로깅
-      log.info("Looking for JWT cookie named: {}", jwtProperties.accessToken().cookie().name());
-
-      String cookieToken = Arrays.stream(request.getCookies())
-              .filter(cookie -> jwtProperties.accessToken().cookie().name().equals(cookie.getName()))
-              .findFirst()
-              .map(Cookie::getValue)
-              .orElse(null);
-
-      if (cookieToken != null) {
-        log.info("Token found in cookies");
-      } else {
-        log.info("Token not found in cookies either. JWT cookie '{}' is missing",
-                jwtProperties.accessToken().cookie().name());
-      }
-
-      return cookieToken;
+    token = findCookieValue(request.getCookies(), jwtProperties.accessToken().cookie().name());
+    if (token != null) {
+      diagnostics.record(request, "bearer-token.resolved", () -> "cookie");
+    } else {
+      diagnostics.record(request, "bearer-token.missing", () -> "no authorization header or access token cookie");
     }
-
-    log.info("No cookies found in request");
-    return null;
+    return token;
   }
 
-  private void logHeaders(HttpServletRequest request) {
-    Enumeration<String> headerNames = request.getHeaderNames();
-    if (headerNames != null) {
-      Collections.list(headerNames).forEach(headerName -> {
-        String headerValue = request.getHeader(headerName);
-        // 민감한 정보는 마스킹
-        if (headerName.toLowerCase().contains("authorization")) {
-          headerValue = "****MASKED****";
-        }
-        log.info("Header: {} = {}", headerName, headerValue);
-      });
+  // 스트림 없이 쿠키 배열을 직접 순회
+  private static String findCookieValue(Cookie[] cookies, String name) {
+    if (cookies == null) {
+      return null;
     }
+    for (Cookie cookie : cookies) {
+      if (name.equals(cookie.getName())) {
+        return cookie.getValue();
+      }
+    }
+    return null;
   }
 }
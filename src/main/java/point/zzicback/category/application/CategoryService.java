@@ -5,7 +5,7 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import point.zzicback.category.application.command.*;
-import point.zzicback.category.domain.Category;
+import point.zzicback.category.domain.*;
 import point.zzicback.category.infrastructure.CategoryRepository;
 import point.zzicback.category.presentation.dto.CategoryResponse;
 import point.zzicback.common.error.BusinessException;
@@ -20,11 +20,12 @@ import java.util.*;
 public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final MemberService memberService;
+    private final CategorySnapshotCache categorySnapshotCache;
     
     public List<CategoryResponse> getCategories(UUID memberId) {
-        return categoryRepository.findByMemberIdOrderByNameAsc(memberId)
+        return categorySnapshotCache.get(memberId).entries()
                 .stream()
-                .map(this::toCategoryResponse)
+                .map(entry -> new CategoryResponse(entry.id(), entry.name(), entry.color(), entry.description()))
                 .toList();
     }
     
@@ -46,7 +47,7 @@ public class CategoryService {
             return toCategoryResponse(existingCategory.get());
         }
         
-        Member member = memberService.findByIdOrThrow(command.memberId());
+        Member member = memberService.getReference(command.memberId());
         
         Category category = Category.builder()
                 .name(command.name())
@@ -56,6 +57,7 @@ public class CategoryService {
                 .build();
                 
         Category savedCategory = categoryRepository.save(category);
+        categorySnapshotCache.evict(command.memberId());
         return toCategoryResponse(savedCategory);
     }
     
@@ -70,6 +72,7 @@ public class CategoryService {
         }
 
         category.update(command.name(), command.color(), command.description());
+        categorySnapshotCache.evict(command.memberId());
         
         return toCategoryResponse(category);
     }
@@ -80,6 +83,7 @@ public class CategoryService {
                 .orElseThrow(() -> new BusinessException("카테고리를 찾을 수 없습니다."));
                 
         categoryRepository.delete(category);
+        categorySnapshotCache.evict(command.memberId());
     }
     
     private CategoryResponse toCategoryResponse(Category category) {
@@ -0,0 +1,83 @@
+package point.zzicback.category.application;
+
+import com.github.benmanes.caffeine.cache.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.*;
+import point.zzicback.category.domain.*;
+import point.zzicback.category.infrastructure.CategoryRepository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 회원별 CategorySnapshot 캐시
+ * 카테고리 생성/수정/삭제 시 해당 회원의 스냅샷만 제거하며, 같은 키의 로딩과 제거는 원자적으로 처리되므로
+ * 커밋 후 제거하면 커밋 이전 데이터로 만든 스냅샷이 남지 않습니다.
+ * 다른 노드의 변경은 스냅샷과 함께 저장한 버전을 CategoryVersionStore 의 현재 버전과 대조하여 알아챕니다.
+ */
+@Component
+public class CategorySnapshotCache {
+    private final CategoryRepository categoryRepository;
+    private final CategoryVersionStore versionStore;
+    private final Cache<UUID, VersionedSnapshot> snapshots;
+
+    public CategorySnapshotCache(CategoryRepository categoryRepository,
+                                 CategoryVersionStore versionStore,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${category.snapshot-cache.ttl:10m}") Duration ttl,
+                                 @Value("${category.snapshot-cache.max-size:10000}") long maxSize) {
+        this.categoryRepository = categoryRepository;
+        this.versionStore = versionStore;
+        this.snapshots = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "category.snapshot");
+    }
+
+    public CategorySnapshot get(UUID memberId) {
+        if (memberId == null) {
+            return CategorySnapshot.empty();
+        }
+        // 버전을 먼저 읽고 로딩하므로, 로딩 중 다른 노드의 커밋이 끼어들어도 다음 조회에서 버전이 달라 다시 로딩됨
+        String version = versionStore.current(memberId);
+        if (version == null) {
+            return load(memberId);
+        }
+        VersionedSnapshot cached = snapshots.getIfPresent(memberId);
+        if (cached != null && cached.version().equals(version)) {
+            return cached.snapshot();
+        }
+        return snapshots.asMap().compute(memberId, (id, current) ->
+                current != null && current.version().equals(version)
+                        ? current
+                        : new VersionedSnapshot(version, load(id))).snapshot();
+    }
+
+    public void evict(UUID memberId) {
+        snapshots.invalidate(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshots.invalidate(memberId);
+                    versionStore.renew(memberId);
+                }
+            });
+        } else {
+            versionStore.renew(memberId);
+        }
+    }
+
+    // 이 노드의 2차 캐시는 다른 노드의 커밋으로 무효화되지 않으므로 항상 DB 에서 읽음
+    private CategorySnapshot load(UUID memberId) {
+        return CategorySnapshot.ofEntries(categoryRepository.findSnapshotEntriesByMemberId(memberId));
+    }
+
+    private record VersionedSnapshot(String version, CategorySnapshot snapshot) {
+    }
+}
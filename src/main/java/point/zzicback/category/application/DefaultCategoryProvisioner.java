@@ -0,0 +1,36 @@
+package point.zzicback.category.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import point.zzicback.category.config.properties.CategoryProperties;
+import point.zzicback.category.config.properties.CategoryProperties.DefaultCategory;
+import point.zzicback.category.infrastructure.*;
+
+import java.util.*;
+
+/**
+ * 가입한 회원에게 기본 카테고리(category.defaults)를 한 번에 생성합니다.
+ * 기존 이름 조회 1회 + 배치 INSERT 1회로 처리하며, 회원은 조회하지 않고 ID로만 참조합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DefaultCategoryProvisioner {
+    private final CategoryRepository categoryRepository;
+    private final CategoryBatchWriter categoryBatchWriter;
+    private final CategoryProperties categoryProperties;
+    private final CategorySnapshotCache categorySnapshotCache;
+
+    @Transactional
+    public void provision(UUID memberId) {
+        Set<String> existingNames = new HashSet<>(categoryRepository.findNamesByMemberId(memberId));
+        List<DefaultCategory> missing = categoryProperties.defaults().stream()
+                .filter(category -> !existingNames.contains(category.name()))
+                .toList();
+        // 커밋 후 쿼리 캐시가 스냅샷보다 먼저 비워지도록 스냅샷 제거는 INSERT 이후에 등록
+        categoryBatchWriter.insertAll(memberId, missing);
+        if (!missing.isEmpty()) {
+            categorySnapshotCache.evict(memberId);
+        }
+    }
+}
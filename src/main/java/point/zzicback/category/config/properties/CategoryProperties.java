@@ -0,0 +1,15 @@
+package point.zzicback.category.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "category")
+public record CategoryProperties(List<DefaultCategory> defaults) {
+    public CategoryProperties {
+        defaults = defaults != null ? List.copyOf(defaults) : List.of();
+    }
+
+    public record DefaultCategory(String name, String color, String description) {
+    }
+}
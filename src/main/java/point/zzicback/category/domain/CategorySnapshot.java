@@ -0,0 +1,61 @@
+package point.zzicback.category.domain;
+
+import java.util.*;
+
+/**
+ * 회원 한 명의 카테고리 목록 스냅샷 (불변)
+ * 이름순 목록과 ID 색인을 함께 보관하여, 투두 매핑 시 지연 로딩 프록시를 초기화하지 않고 이름을 조회합니다.
+ */
+public final class CategorySnapshot {
+    private static final CategorySnapshot EMPTY = new CategorySnapshot(List.of());
+
+    private final List<Entry> entries;
+    private final Map<Long, Entry> entriesById;
+
+    private CategorySnapshot(List<Entry> entries) {
+        this.entries = List.copyOf(entries);
+        Map<Long, Entry> byId = new HashMap<>();
+        for (Entry entry : this.entries) {
+            byId.put(entry.id(), entry);
+        }
+        this.entriesById = Map.copyOf(byId);
+    }
+
+    // categories 는 이름순으로 정렬되어 있어야 함
+    public static CategorySnapshot of(List<Category> categories) {
+        return new CategorySnapshot(categories.stream()
+                .map(category -> new Entry(category.getId(), category.getName(), category.getColor(), category.getDescription()))
+                .toList());
+    }
+
+    // entries 는 이름순으로 정렬되어 있어야 함
+    public static CategorySnapshot ofEntries(List<Entry> entries) {
+        return new CategorySnapshot(entries);
+    }
+
+    public static CategorySnapshot empty() {
+        return EMPTY;
+    }
+
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    public Optional<Entry> find(Long categoryId) {
+        return Optional.ofNullable(entriesById.get(categoryId));
+    }
+
+    /**
+     * 프록시의 ID 만 사용하여 이름을 찾고, 스냅샷에 없는 경우에만 엔티티에서 읽습니다.
+     */
+    public String nameOf(Category category) {
+        if (category == null) {
+            return null;
+        }
+        Entry entry = entriesById.get(category.getId());
+        return entry != null ? entry.name() : category.getName();
+    }
+
+    public record Entry(Long id, String name, String color, String description) {
+    }
+}
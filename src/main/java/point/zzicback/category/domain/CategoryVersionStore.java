@@ -0,0 +1,18 @@
+package point.zzicback.category.domain;
+
+import java.util.UUID;
+
+/**
+ * 회원별 카테고리 변경 버전 저장소
+ * 노드마다 가진 CategorySnapshot 캐시가 다른 노드의 변경을 알아챌 수 있도록, 변경이 커밋될 때마다 버전을 바꾸고 조회 시 대조합니다.
+ * 구현체는 Infrastructure 계층에서 담당
+ */
+public interface CategoryVersionStore {
+    /**
+     * @return 현재 버전, 저장소를 사용할 수 없으면 null (캐시를 쓰지 않고 원본을 조회)
+     */
+    String current(UUID memberId);
+
+    /** 이전에 발급된 적 없는 새 버전으로 교체 */
+    void renew(UUID memberId);
+}
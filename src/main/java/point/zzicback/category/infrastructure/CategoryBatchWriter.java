@@ -0,0 +1,52 @@
+package point.zzicback.category.infrastructure;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.*;
+import point.zzicback.category.config.properties.CategoryProperties.DefaultCategory;
+
+import java.util.*;
+
+/**
+ * 카테고리 여러 건을 JDBC 배치 INSERT 한 번으로 저장합니다.
+ * IDENTITY 전략에서는 JPA 배치 INSERT가 동작하지 않으므로 JDBC로 직접 처리합니다.
+ * Hibernate 를 거치지 않으므로 카테고리 쿼리 캐시는 직접 비웁니다.
+ * 커밋 전에 비우면 그 사이 다른 요청이 커밋 이전 결과를 다시 캐시하므로 커밋 후에 한 번 더 비웁니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CategoryBatchWriter {
+    private static final String INSERT_SQL =
+            "INSERT INTO categories (name, color, description, member_id) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void insertAll(UUID memberId, List<DefaultCategory> categories) {
+        if (categories.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, categories, categories.size(), (ps, category) -> {
+            ps.setString(1, category.name());
+            ps.setString(2, category.color());
+            ps.setString(3, category.description());
+            ps.setObject(4, memberId);
+        });
+        evictQueryRegion();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictQueryRegion();
+                }
+            });
+        }
+    }
+
+    private void evictQueryRegion() {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictQueryRegion(CategoryRepository.QUERY_CACHE_REGION);
+    }
+}
@@ -1,15 +1,37 @@
 package point.zzicback.category.infrastructure;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.*;
-import org.springframework.data.jpa.repository.JpaRepository;
-import point.zzicback.category.domain.Category;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import point.zzicback.category.domain.*;
 
 import java.util.*;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    // 쿼리 캐시 영역, categories 테이블이 Hibernate 를 거쳐 변경되면 자동 무효화
+    String QUERY_CACHE_REGION = "category-query";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     List<Category> findByMemberIdOrderByNameAsc(UUID memberId);
     Page<Category> findByMemberId(UUID memberId, Pageable pageable);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     Optional<Category> findByIdAndMemberId(Long id, UUID memberId);
     boolean existsByNameAndMemberId(String name, UUID memberId);
     Optional<Category> findByNameAndMemberId(String name, UUID memberId);
+
+    // CategorySnapshot 로딩용 프로젝션, 다른 노드의 변경이 보이도록 2차 캐시/쿼리 캐시를 거치지 않음
+    @Query("SELECT new point.zzicback.category.domain.CategorySnapshot$Entry(c.id, c.name, c.color, c.description) " +
+           "FROM Category c WHERE c.member.id = :memberId ORDER BY c.name ASC")
+    List<CategorySnapshot.Entry> findSnapshotEntriesByMemberId(@Param("memberId") UUID memberId);
+
+    @Query("SELECT c.name FROM Category c WHERE c.member.id = :memberId")
+    List<String> findNamesByMemberId(@Param("memberId") UUID memberId);
 }
@@ -0,0 +1,27 @@
+package point.zzicback.category.infrastructure;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import point.zzicback.category.domain.CategoryVersionStore;
+
+import java.util.UUID;
+
+/**
+ * 단일 노드용 CategoryVersionStore 구현체
+ * 변경은 같은 노드의 캐시에서 바로 제거되므로 버전을 관리하지 않습니다.
+ * 여러 노드로 운영할 때는 redis 프로필을 사용해야 합니다.
+ */
+@Repository
+@Profile("!redis")
+public class InMemoryCategoryVersionStore implements CategoryVersionStore {
+    private static final String SINGLE_NODE_VERSION = "0";
+
+    @Override
+    public String current(UUID memberId) {
+        return SINGLE_NODE_VERSION;
+    }
+
+    @Override
+    public void renew(UUID memberId) {
+    }
+}
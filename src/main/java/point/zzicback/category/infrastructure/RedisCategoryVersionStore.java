@@ -0,0 +1,42 @@
+package point.zzicback.category.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+import point.zzicback.category.domain.CategoryVersionStore;
+
+import java.util.UUID;
+
+/**
+ * Redis 기반 CategoryVersionStore 구현체
+ * 버전은 증가 값 대신 임의 값으로 교체하므로, 키가 유실된 뒤 다시 발급되어도 이전 버전과 겹치지 않습니다.
+ */
+@Slf4j
+@Repository
+@Profile("redis")
+@RequiredArgsConstructor
+public class RedisCategoryVersionStore implements CategoryVersionStore {
+    private static final String KEY_PREFIX = "category:version:";
+    private static final String INITIAL_VERSION = "0";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public String current(UUID memberId) {
+        try {
+            String version = redisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+            return version != null ? version : INITIAL_VERSION;
+        } catch (DataAccessException e) {
+            log.warn("Category version lookup failed, bypassing snapshot cache: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void renew(UUID memberId) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + memberId, UUID.randomUUID().toString());
+    }
+}
@@ -1,23 +1,28 @@
 package point.zzicback.challenge.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import point.zzicback.challenge.application.dto.result.ParticipantResult;
+import point.zzicback.challenge.application.dto.result.*;
+import point.zzicback.challenge.application.event.*;
 import point.zzicback.challenge.domain.*;
 import point.zzicback.challenge.infrastructure.*;
 import point.zzicback.common.error.BusinessException;
+import point.zzicback.experience.application.ExperienceService;
+import point.zzicback.level.domain.Level;
 import point.zzicback.member.domain.Member;
 
-import java.util.*;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ChallengeParticipationService {
     private final ChallengeParticipationRepository participationRepository;
     private final ChallengeService challengeService;
+    private final ChallengeStatisticsService statisticsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExperienceService experienceService;
 
     // 참여
     public ChallengeParticipation joinChallenge(Long challengeId, Member member) {
@@ -32,7 +37,10 @@ public class ChallengeParticipationService {
                 .member(member)
                 .build();
 
-        return participationRepository.save(participation);
+        ChallengeParticipation saved = participationRepository.save(participation);
+        statisticsService.recordJoin(challengeId);
+        eventPublisher.publishEvent(new ChallengeJoinedEvent(challengeId, member.getId()));
+        return saved;
     }
 
     // 중도하차 (soft delete)
@@ -43,6 +51,8 @@ public class ChallengeParticipationService {
 
         participation.leaveChallenge();
         participationRepository.save(participation);
+        statisticsService.recordLeave(challengeId);
+        eventPublisher.publishEvent(new ChallengeLeftEvent(challengeId, member.getId()));
     }
 
     /**
@@ -50,19 +60,27 @@ public class ChallengeParticipationService {
      */
     @Transactional(readOnly = true)
     public Page<ParticipantResult> getParticipants(Long challengeId, Pageable pageable) {
-        Challenge challenge = challengeService.findById(challengeId);
-        List<ParticipantResult> participants = challenge.getParticipations().stream()
-                .filter(p -> p.getJoinOut() == null)
-                .map(p -> new ParticipantResult(
-                        p.getMember().getId(),
-                        p.getMember().getEmail(),
-                        p.getMember().getNickname(),
-                        p.getJoinedAt()))
-                .toList();
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), participants.size());
-        List<ParticipantResult> pageList = participants.subList(start, end);
-        return new PageImpl<>(pageList, pageable, participants.size());
+        challengeService.findById(challengeId);
+        return participationRepository.findActiveParticipants(challengeId, pageable);
     }
-}
 
+    /**
+     * 참여자 목록을 경험치와 함께 한 번의 쿼리로 조회하고 캐시된 레벨 테이블로 레벨을 계산
+     */
+    @Transactional(readOnly = true)
+    public Page<ParticipantLevelResult> getParticipantLevels(Long challengeId, Pageable pageable) {
+        challengeService.findById(challengeId);
+        return participationRepository.findActiveParticipantExperiences(challengeId, pageable)
+                .map(participant -> {
+                    Level level = experienceService.getLevelByExperience(participant.experience());
+                    return new ParticipantLevelResult(
+                            participant.id(),
+                            participant.email(),
+                            participant.nickname(),
+                            participant.joinedAt(),
+                            participant.experience(),
+                            level.getLevel(),
+                            level.getName());
+                });
+    }
+}
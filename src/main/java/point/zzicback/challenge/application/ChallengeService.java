@@ -1,11 +1,13 @@
 package point.zzicback.challenge.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import point.zzicback.challenge.application.dto.command.*;
 import point.zzicback.challenge.application.dto.result.*;
+import point.zzicback.challenge.application.event.*;
 import point.zzicback.challenge.application.mapper.ChallengeMapper;
 import point.zzicback.challenge.domain.*;
 import point.zzicback.challenge.infrastructure.*;
@@ -13,7 +15,9 @@ import point.zzicback.common.error.EntityNotFoundException;
 import point.zzicback.member.domain.Member;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,8 +26,10 @@ public class ChallengeService {
 
     private final ChallengeRepository challengeRepository;
     private final ChallengeParticipationRepository challengeParticipationRepository;
-    private final ChallengeTodoRepository challengeTodoRepository;
     private final ChallengeMapper challengeMapper;
+    private final ChallengePopularityRanking popularityRanking;
+    private final ChallengeStatisticsService statisticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Long createChallenge(CreateChallengeCommand command) {
         LocalDate startDate = LocalDate.now();
@@ -36,7 +42,10 @@ public class ChallengeService {
                 .startDate(startDate)
                 .endDate(endDate)
                 .build();
-        return challengeRepository.save(challenge).getId();
+        Long challengeId = challengeRepository.save(challenge).getId();
+        statisticsService.initialize(challengeId);
+        eventPublisher.publishEvent(new ChallengeCreatedEvent(challengeId, startDate));
+        return challengeId;
     }
     
     private LocalDate calculateEndDate(LocalDate startDate, PeriodType periodType) {
@@ -51,34 +60,56 @@ public class ChallengeService {
 
     @Transactional(readOnly = true)
     public Page<ChallengeListResult> searchChallengesWithFilter(Member member, String keyword, String sort, Boolean join, Pageable pageable) {
-        Page<Challenge> challengePage;
-        if (keyword == null || keyword.trim().isEmpty()) {
-            challengePage = "popular".equals(sort)
-                ? challengeRepository.findAllOrderedByPopularity(pageable)
-                : challengeRepository.findAll(pageable);
-        } else {
-            challengePage = "popular".equals(sort)
-                ? challengeRepository.searchByKeywordOrderedByPopularity(keyword.trim(), pageable)
-                : challengeRepository.searchByKeyword(keyword.trim(), pageable);
+        UUID memberId = member != null ? member.getId() : null;
+        String trimmedKeyword = (keyword == null || keyword.trim().isEmpty()) ? null : keyword.trim();
+
+        // 필터 없는 인기순 목록은 DB 집계 대신 인기순 랭킹에서 조회
+        if ("popular".equals(sort) && trimmedKeyword == null && join == null) {
+            return findByPopularityRanking(memberId, pageable);
         }
-        
-        List<Long> participatedChallengeIds = challengeParticipationRepository.findByMemberAndJoinOutIsNull(member)
-                .stream()
-                .map(participation -> participation.getChallenge().getId())
+
+        Page<Challenge> challengePage = "popular".equals(sort)
+                ? challengeRepository.searchWithJoinFilterOrderedByPopularity(trimmedKeyword, memberId, join, pageable)
+                : challengeRepository.searchWithJoinFilter(trimmedKeyword, memberId, join, pageable);
+
+        List<Long> challengeIds = challengePage.getContent().stream()
+                .map(Challenge::getId)
                 .toList();
-        
-        List<ChallengeListResult> filteredChallenges = challengePage.getContent().stream()
-                .map(challenge -> {
-                    boolean isParticipated = participatedChallengeIds.contains(challenge.getId());
-                    int activeParticipantCount = (int) challenge.getParticipations().stream()
-                            .filter(participation -> participation.getJoinOut() == null)
-                            .count();
-                    return challengeMapper.toListResult(challenge, isParticipated, activeParticipantCount);
-                })
-                .filter(challengeDto -> join == null || join.equals(challengeDto.participationStatus()))
+        Set<Long> participatedChallengeIds = findParticipatedChallengeIds(memberId, challengeIds);
+
+        return challengePage.map(challenge -> {
+            boolean isParticipated = participatedChallengeIds.contains(challenge.getId());
+            int activeParticipantCount = (int) challenge.getParticipations().stream()
+                    .filter(participation -> participation.getJoinOut() == null)
+                    .count();
+            return challengeMapper.toListResult(challenge, isParticipated, activeParticipantCount);
+        });
+    }
+
+    private Page<ChallengeListResult> findByPopularityRanking(UUID memberId, Pageable pageable) {
+        List<ChallengePopularity> ranked = popularityRanking.findPage(pageable.getOffset(), pageable.getPageSize());
+        List<Long> challengeIds = ranked.stream()
+                .map(ChallengePopularity::challengeId)
                 .toList();
-        
-        return new PageImpl<>(filteredChallenges, pageable, filteredChallenges.size());
+        Map<Long, Challenge> challenges = challengeRepository.findAllById(challengeIds).stream()
+                .collect(Collectors.toMap(Challenge::getId, Function.identity()));
+        Set<Long> participatedChallengeIds = findParticipatedChallengeIds(memberId, challengeIds);
+
+        List<ChallengeListResult> content = ranked.stream()
+                .filter(popularity -> challenges.containsKey(popularity.challengeId()))
+                .map(popularity -> challengeMapper.toListResult(
+                        challenges.get(popularity.challengeId()),
+                        participatedChallengeIds.contains(popularity.challengeId()),
+                        (int) popularity.activeCount()))
+                .toList();
+        return new PageImpl<>(content, pageable, popularityRanking.count());
+    }
+
+    private Set<Long> findParticipatedChallengeIds(UUID memberId, List<Long> challengeIds) {
+        if (memberId == null || challengeIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(challengeParticipationRepository.findActiveChallengeIds(memberId, challengeIds));
     }
 
     @Transactional(readOnly = true)
@@ -97,27 +128,24 @@ public class ChallengeService {
         Challenge challenge = challengeRepository.findById(challengeId)
                 .orElseThrow(() -> new EntityNotFoundException("Challenge", challengeId));
         
-        List<Long> participatedChallengeIds = challengeParticipationRepository.findByMemberAndJoinOutIsNull(member)
-                .stream()
-                .map(participation -> participation.getChallenge().getId())
-                .toList();
+        boolean isParticipated = challengeParticipationRepository
+                .existsByMemberAndChallenge_IdAndJoinOutIsNull(member, challengeId);
         
+        ChallengeStatisticsSnapshot statistics = statisticsService.getStatistics(challengeId);
+
         // 현재 활동 중인 참여자 수
-        int activeParticipantCount = (int) challenge.getParticipations().stream()
-                .filter(participation -> participation.getJoinOut() == null)
-                .count();
+        int activeParticipantCount = (int) statistics.activeParticipants();
         
         // 해당 챌린지에 참여한 전체 사람 수 (탈퇴자 포함)
-        int totalParticipantCount = challenge.getParticipations().size();
+        int totalParticipantCount = (int) statistics.totalParticipants();
         
         // 챌린지 투두를 완료한 참여자 수
-        long completedParticipantCount = challengeTodoRepository.countCompletedParticipantsByChallengeId(challengeId);
+        long completedParticipantCount = statistics.completedParticipants();
         
         // 성공률 계산 (챌린지 투두를 완료한 참여자 / 전체 참여자)
         float successRate = totalParticipantCount > 0 ? 
                 Math.round((float) completedParticipantCount / totalParticipantCount * 100) / 100.0f : 0.0f;
         
-        boolean isParticipated = participatedChallengeIds.contains(challenge.getId());
         return challengeMapper.toResult(
                 challenge,
                 isParticipated,
@@ -133,6 +161,8 @@ public class ChallengeService {
         Challenge challenge = challengeRepository.findById(challengeId)
                 .orElseThrow(() -> new EntityNotFoundException("Challenge", challengeId));
         challengeRepository.delete(challenge);
+        statisticsService.delete(challengeId);
+        eventPublisher.publishEvent(new ChallengeDeletedEvent(challengeId));
     }
 
     @Transactional(readOnly = true)
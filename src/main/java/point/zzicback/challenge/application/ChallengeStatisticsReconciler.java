@@ -0,0 +1,119 @@
+package point.zzicback.challenge.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.zzicback.challenge.domain.*;
+import point.zzicback.challenge.infrastructure.*;
+import point.zzicback.common.redis.RedisLock;
+
+import java.time.*;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 증분 갱신된 챌린지 집계를 원본 테이블(참여, 챌린지 투두)과 대조하여 보정하는 배치 작업
+ * 챌린지마다 별도 트랜잭션에서 집계 행을 잠근 뒤 원본을 읽으므로, 보정 중 커밋된 증분이 덮어써지지 않습니다.
+ * (증분 갱신은 항상 집계 행을 먼저 갱신하므로 기간별 완료 수도 같은 잠금으로 보호됨)
+ * redis 프로필에서는 여러 노드 중 한 곳에서만 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeStatisticsReconciler {
+    private static final String LOCK_KEY = "challenge:statistics:reconcile-lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+
+    private final ChallengeStatisticsRepository statisticsRepository;
+    private final ChallengePeriodCompletionRepository periodCompletionRepository;
+    private final ChallengeStatisticsUpsertWriter upsertWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<RedisLock> redisLock;
+
+    @Scheduled(cron = "${challenge.statistics.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        RedisLock lock = redisLock.getIfAvailable();
+        if (lock == null) {
+            reconcileAll();
+        } else if (!lock.runExclusively(LOCK_KEY, LOCK_TTL, this::reconcileAll)) {
+            log.info("Challenge statistics reconciliation is running on another node, skipped");
+        }
+    }
+
+    private void reconcileAll() {
+        int fixed = 0;
+        int failed = 0;
+        for (Long challengeId : statisticsRepository.findAllChallengeIds()) {
+            try {
+                fixed += transactionTemplate.execute(status -> reconcileChallenge(challengeId));
+            } catch (RuntimeException e) {
+                // 한 챌린지의 실패로 나머지 보정을 중단하지 않음, 다음 주기에 재시도
+                log.warn("Failed to reconcile statistics of challenge {}", challengeId, e);
+                failed++;
+            }
+        }
+        Integer orphans = transactionTemplate.execute(status ->
+                statisticsRepository.deleteOrphans() + periodCompletionRepository.deleteOrphans());
+        fixed += orphans != null ? orphans : 0;
+        if (fixed > 0 || failed > 0) {
+            log.warn("Reconciled challenge statistics: {} rows corrected, {} challenges failed", fixed, failed);
+        } else {
+            log.info("Challenge statistics verified against source tables");
+        }
+    }
+
+    private int reconcileChallenge(Long challengeId) {
+        int fixed = 0;
+        Optional<ChallengeStatistics> locked = statisticsRepository.findByIdForUpdate(challengeId);
+        if (locked.isEmpty()) {
+            Optional<ChallengeStatisticsSnapshot> source = statisticsRepository.findSourceSnapshot(challengeId);
+            if (source.isEmpty()) {
+                // 조회 이후 삭제된 챌린지, 집계는 삭제 트랜잭션에서 함께 제거됨
+                return 0;
+            }
+            // 집계 도입 이전 챌린지: upsert 로 생성하여 행 잠금을 얻음 (동시에 생성된 경우 증분 0 으로 처리)
+            upsertWriter.upsertStatistics(source.get(), 0, 0, 0);
+            locked = statisticsRepository.findByIdForUpdate(challengeId);
+            fixed++;
+        }
+        ChallengeStatistics statistics = locked.orElseThrow();
+        // 잠금 이후에 읽어야 잠금 대기 중 커밋된 변경이 원본에 포함됨
+        Optional<ChallengeStatisticsSnapshot> source = statisticsRepository.findSourceSnapshot(challengeId);
+        if (source.isEmpty()) {
+            return fixed;
+        }
+        if (!statistics.matches(source.get())) {
+            log.debug("Challenge {} statistics drifted: stored={}, source={}", challengeId, statistics.toSnapshot(), source.get());
+            statistics.apply(source.get());
+            fixed++;
+        }
+        return fixed + reconcilePeriodCompletions(challengeId);
+    }
+
+    private int reconcilePeriodCompletions(Long challengeId) {
+        Map<LocalDate, ChallengePeriodCompletion> stored = periodCompletionRepository
+                .findByChallengeIdOrderByPeriodDateDesc(challengeId).stream()
+                .collect(Collectors.toMap(ChallengePeriodCompletion::getPeriodDate, Function.identity()));
+        int fixed = 0;
+        for (ChallengePeriodCompletionCount source : periodCompletionRepository.findSourceCounts(challengeId)) {
+            ChallengePeriodCompletion completion = stored.remove(source.periodDate());
+            if (completion == null) {
+                upsertWriter.incrementPeriodCompletion(challengeId, source.periodDate(), source.completedCount());
+                fixed++;
+            } else if (completion.getCompletedCount() != source.completedCount()) {
+                completion.updateCompletedCount(source.completedCount());
+                fixed++;
+            }
+        }
+        // 원본에 완료 기록이 없는 기간
+        List<ChallengePeriodCompletion> stale = stored.values().stream()
+                .filter(completion -> completion.getCompletedCount() != 0)
+                .toList();
+        stale.forEach(completion -> completion.updateCompletedCount(0));
+        return fixed + stale.size();
+    }
+}
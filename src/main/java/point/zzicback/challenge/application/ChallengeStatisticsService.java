@@ -0,0 +1,86 @@
+package point.zzicback.challenge.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import point.zzicback.challenge.application.dto.result.ChallengePeriodCompletionResult;
+import point.zzicback.challenge.domain.*;
+import point.zzicback.challenge.infrastructure.*;
+import point.zzicback.common.error.EntityNotFoundException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 챌린지 참여/완료 집계를 증분 갱신합니다.
+ * 모든 갱신은 호출자의 트랜잭션 안에서 원자적 UPDATE로 처리되며,
+ * 집계 행이 없는 경우 upsert로 생성하여 동시 생성 시에도 유니크 제약 충돌이 나지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ChallengeStatisticsService {
+    private final ChallengeStatisticsRepository statisticsRepository;
+    private final ChallengePeriodCompletionRepository periodCompletionRepository;
+    private final ChallengeStatisticsUpsertWriter upsertWriter;
+
+    public void initialize(Long challengeId) {
+        statisticsRepository.save(new ChallengeStatistics(challengeId));
+    }
+
+    public void recordJoin(Long challengeId) {
+        applyDelta(challengeId, 1, 1, 0);
+    }
+
+    public void recordLeave(Long challengeId) {
+        applyDelta(challengeId, 0, -1, 0);
+    }
+
+    /**
+     * @param firstCompletion 해당 참여의 첫 완료 여부 (완료 참여자 수 증가 여부)
+     */
+    public void recordCompletion(Long challengeId, LocalDate periodDate, boolean firstCompletion) {
+        applyDelta(challengeId, 0, 0, firstCompletion ? 1 : 0);
+        upsertWriter.incrementPeriodCompletion(challengeId, periodDate, 1);
+    }
+
+    /**
+     * @param lastCompletion 해당 참여의 마지막 완료가 취소되었는지 여부 (완료 참여자 수 감소 여부)
+     */
+    public void recordCancellation(Long challengeId, LocalDate periodDate, boolean lastCompletion) {
+        applyDelta(challengeId, 0, 0, lastCompletion ? -1 : 0);
+        periodCompletionRepository.applyDelta(challengeId, periodDate, -1);
+    }
+
+    public void delete(Long challengeId) {
+        statisticsRepository.deleteById(challengeId);
+        periodCompletionRepository.deleteByChallengeId(challengeId);
+    }
+
+    @Transactional(readOnly = true)
+    public ChallengeStatisticsSnapshot getStatistics(Long challengeId) {
+        return statisticsRepository.findById(challengeId)
+                .map(ChallengeStatistics::toSnapshot)
+                .orElseGet(() -> findSourceSnapshot(challengeId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ChallengePeriodCompletionResult> getPeriodCompletions(Long challengeId) {
+        return periodCompletionRepository.findByChallengeIdOrderByPeriodDateDesc(challengeId).stream()
+                .map(completion -> new ChallengePeriodCompletionResult(
+                        completion.getPeriodDate(), completion.getCompletedCount()))
+                .toList();
+    }
+
+    private void applyDelta(Long challengeId, long totalDelta, long activeDelta, long completedDelta) {
+        if (statisticsRepository.applyDelta(challengeId, totalDelta, activeDelta, completedDelta) == 0) {
+            // 집계 도입 이전 챌린지: 변경이 반영된 원본 기준으로 생성 (동시에 생성된 경우 증분만 반영)
+            upsertWriter.upsertStatistics(findSourceSnapshot(challengeId), totalDelta, activeDelta, completedDelta);
+        }
+    }
+
+    private ChallengeStatisticsSnapshot findSourceSnapshot(Long challengeId) {
+        return statisticsRepository.findSourceSnapshot(challengeId)
+                .orElseThrow(() -> new EntityNotFoundException("Challenge", challengeId));
+    }
+}
@@ -12,11 +12,13 @@ import point.zzicback.challenge.infrastructure.*;
 import point.zzicback.common.error.*;
 import point.zzicback.common.error.EntityNotFoundException;
 import point.zzicback.experience.application.event.ChallengeTodoCompletedEvent;
+import point.zzicback.experience.application.event.ExperienceEventKey;
 import point.zzicback.member.domain.Member;
 
-import java.time.LocalDate;
+import java.time.*;
 import java.util.*;
-import java.util.stream.Stream;
+import java.util.function.Function;
+import java.util.stream.*;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +27,7 @@ public class ChallengeTodoService {
     private final ChallengeTodoRepository challengeTodoRepository;
     private final ChallengeParticipationRepository participationRepository;
     private final ChallengeService challengeService;
+    private final ChallengeStatisticsService statisticsService;
     private final ChallengeTodoMapper challengeTodoMapper;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -33,19 +36,25 @@ public class ChallengeTodoService {
                 ? challengeTodoRepository.findByChallengeParticipationAndTargetDate(cp, currentDate)
                 : challengeTodoRepository.findByChallengeParticipation(cp);
         
+        boolean firstCompletion = !challengeTodoRepository.existsByChallengeParticipationAndDoneTrue(cp);
+
         if (existingTodo.isPresent()) {
             ChallengeTodo todo = existingTodo.get();
             if (todo.isCompleted()) {
                 throw new BusinessException("이미 완료된 챌린지입니다.");
             }
+            LocalDateTime previousVersion = todo.getUpdatedAt();
             todo.complete(currentDate);
             challengeTodoRepository.save(todo);
+            statisticsService.recordCompletion(cp.getChallenge().getId(), todo.getTargetDate(), firstCompletion);
             
             // 챌린지 투두 완료 이벤트 발생
             eventPublisher.publishEvent(new ChallengeTodoCompletedEvent(
                     cp.getMember().getId(),
                     cp.getChallenge().getId(),
-                    cp.getChallenge().getTitle()
+                    cp.getChallenge().getTitle(),
+                    ExperienceEventKey.of("challenge-todo:" + cp.getId(), todo.getTargetDate(),
+                            ExperienceEventKey.COMPLETED, previousVersion)
             ));
         } else {
             LocalDate targetDate = cp.getChallenge().getPeriodType().calculateTargetDate(currentDate);
@@ -56,12 +65,15 @@ public class ChallengeTodoService {
                     .build();
             newTodo.complete(currentDate);
             challengeTodoRepository.save(newTodo);
+            statisticsService.recordCompletion(cp.getChallenge().getId(), targetDate, firstCompletion);
             
             // 챌린지 투두 완료 이벤트 발생
             eventPublisher.publishEvent(new ChallengeTodoCompletedEvent(
                     cp.getMember().getId(),
                     cp.getChallenge().getId(),
-                    cp.getChallenge().getTitle()
+                    cp.getChallenge().getTitle(),
+                    ExperienceEventKey.of("challenge-todo:" + cp.getId(), targetDate,
+                            ExperienceEventKey.COMPLETED, null)
             ));
         }
     }
@@ -71,52 +83,45 @@ public class ChallengeTodoService {
         ChallengeTodo challengeTodo = challengeTodoRepository.findById(todoId)
                 .orElseThrow(() -> new EntityNotFoundException("ChallengeTodo", todoId));
         
-        if (!challengeTodo.getChallengeParticipation().getMember().equals(member)) {
+        if (!challengeTodo.getChallengeParticipation().getMember().getId().equals(member.getId())) {
             throw new BusinessException("해당 투두에 대한 권한이 없습니다.");
         }
         
+        ChallengeParticipation participation = challengeTodo.getChallengeParticipation();
+        boolean wasCompleted = challengeTodo.isCompleted();
         challengeTodoRepository.delete(challengeTodo);
+
+        if (wasCompleted) {
+            boolean lastCompletion = !challengeTodoRepository.existsByChallengeParticipationAndDoneTrue(participation);
+            statisticsService.recordCancellation(participation.getChallenge().getId(), challengeTodo.getTargetDate(), lastCompletion);
+        }
     }
     
     @Transactional(readOnly = true)
     public Page<ChallengeTodoResult> getAllChallengeTodos(Member member, Pageable pageable) {
-        List<ChallengeParticipation> participations = participationRepository.findByMemberAndJoinOutIsNull(member);
+        LocalDate currentDate = LocalDate.now();
+        List<ChallengeParticipation> participations = participationRepository.findActiveWithChallengeByMemberOn(member, currentDate);
+        Map<Long, ChallengeTodo> todosByParticipationId = challengeTodoRepository.findActiveByMemberOn(member, currentDate)
+                .stream()
+                .collect(Collectors.toMap(todo -> todo.getChallengeParticipation().getId(), Function.identity(), (first, second) -> first));
         List<ChallengeTodoResult> allTodos = participations.stream()
-                .flatMap(this::createChallengeTodoStream)
+                .flatMap(participation -> createChallengeTodoStream(participation, todosByParticipationId.get(participation.getId()), currentDate))
                 .toList();
         allTodos = applySorting(allTodos, pageable.getSort());
-        int start = (int) pageable.getOffset();
+        int start = (int) Math.min(pageable.getOffset(), allTodos.size());
         int end = Math.min((start + pageable.getPageSize()), allTodos.size());
         List<ChallengeTodoResult> pagedTodos = allTodos.subList(start, end);
         return new PageImpl<>(pagedTodos, pageable, allTodos.size());
     }
 
-    private Stream<ChallengeTodoResult> createChallengeTodoStream(ChallengeParticipation participation) {
-        LocalDate currentDate = LocalDate.now();
-        ChallengeTodo virtualTodo = createVirtualChallengeTodo(participation, currentDate);
-        PeriodType periodType = participation.getChallenge().getPeriodType();
-        
-        if (!isWithinChallengeRange(participation.getChallenge(), currentDate)) {
-            return Stream.empty();
+    private Stream<ChallengeTodoResult> createChallengeTodoStream(ChallengeParticipation participation, ChallengeTodo existingTodo, LocalDate currentDate) {
+        if (existingTodo == null) {
+            return Stream.of(challengeTodoMapper.toResult(createVirtualChallengeTodo(participation, currentDate)));
         }
-        
-        if (!virtualTodo.isInPeriod(periodType, currentDate)) {
+        if (!existingTodo.isInPeriod(participation.getChallenge().getPeriodType(), currentDate)) {
             return Stream.empty();
         }
-        
-        Optional<ChallengeTodo> existingTodo = (periodType == PeriodType.DAILY) 
-            ? challengeTodoRepository.findByChallengeParticipationAndTargetDate(participation, currentDate)
-            : challengeTodoRepository.findByChallengeParticipation(participation);
-
-        if (existingTodo.isPresent()) {
-            ChallengeTodo todo = existingTodo.get();
-            if (!todo.isInPeriod(periodType, currentDate)) {
-                return Stream.empty();
-            }
-            return Stream.of(challengeTodoMapper.toResult(todo));
-        } else {
-            return Stream.of(challengeTodoMapper.toResult(virtualTodo));
-        }
+        return Stream.of(challengeTodoMapper.toResult(existingTodo));
     }
 
     ChallengeTodo createVirtualChallengeTodo(ChallengeParticipation participation, LocalDate currentDate) {
@@ -198,8 +203,4 @@ public class ChallengeTodoService {
             default -> Comparator.comparing(ChallengeTodoResult::id, Comparator.nullsLast(Comparator.naturalOrder()));
         };
     }
-
-    private boolean isWithinChallengeRange(Challenge challenge, LocalDate date) {
-        return !date.isBefore(challenge.getStartDate()) && !date.isAfter(challenge.getEndDate());
-    }
 }
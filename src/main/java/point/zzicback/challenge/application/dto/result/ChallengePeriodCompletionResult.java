@@ -0,0 +1,9 @@
+package point.zzicback.challenge.application.dto.result;
+
+import java.time.LocalDate;
+
+public record ChallengePeriodCompletionResult(
+        LocalDate periodDate,
+        long completedCount
+) {
+}
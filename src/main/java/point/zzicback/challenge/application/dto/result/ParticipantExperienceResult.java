@@ -0,0 +1,13 @@
+package point.zzicback.challenge.application.dto.result;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ParticipantExperienceResult(
+        UUID id,
+        String email,
+        String nickname,
+        LocalDateTime joinedAt,
+        Integer experience
+) {
+}
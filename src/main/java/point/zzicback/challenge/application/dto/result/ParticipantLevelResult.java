@@ -0,0 +1,15 @@
+package point.zzicback.challenge.application.dto.result;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ParticipantLevelResult(
+        UUID id,
+        String email,
+        String nickname,
+        LocalDateTime joinedAt,
+        int experience,
+        int level,
+        String levelName
+) {
+}
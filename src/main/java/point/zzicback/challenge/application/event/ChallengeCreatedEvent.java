@@ -0,0 +1,9 @@
+package point.zzicback.challenge.application.event;
+
+import java.time.LocalDate;
+
+public record ChallengeCreatedEvent(
+        Long challengeId,
+        LocalDate startDate
+) {
+}
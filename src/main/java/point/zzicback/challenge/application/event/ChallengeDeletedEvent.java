@@ -0,0 +1,6 @@
+package point.zzicback.challenge.application.event;
+
+public record ChallengeDeletedEvent(
+        Long challengeId
+) {
+}
@@ -0,0 +1,9 @@
+package point.zzicback.challenge.application.event;
+
+import java.util.UUID;
+
+public record ChallengeJoinedEvent(
+        Long challengeId,
+        UUID memberId
+) {
+}
@@ -0,0 +1,9 @@
+package point.zzicback.challenge.application.event;
+
+import java.util.UUID;
+
+public record ChallengeLeftEvent(
+        Long challengeId,
+        UUID memberId
+) {
+}
@@ -0,0 +1,35 @@
+package point.zzicback.challenge.application.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.*;
+import point.zzicback.challenge.domain.ChallengePopularityRanking;
+
+/**
+ * 커밋된 챌린지 생성/삭제, 참여/탈퇴를 인기순 랭킹에 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChallengeRankingEventHandler {
+    private final ChallengePopularityRanking popularityRanking;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleChallengeCreated(ChallengeCreatedEvent event) {
+        popularityRanking.register(event.challengeId(), event.startDate());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleChallengeDeleted(ChallengeDeletedEvent event) {
+        popularityRanking.remove(event.challengeId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleChallengeJoined(ChallengeJoinedEvent event) {
+        popularityRanking.increment(event.challengeId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleChallengeLeft(ChallengeLeftEvent event) {
+        popularityRanking.decrement(event.challengeId());
+    }
+}
@@ -0,0 +1,25 @@
+package point.zzicback.challenge.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.*;
+import org.springframework.stereotype.Component;
+import point.zzicback.challenge.domain.*;
+import point.zzicback.challenge.infrastructure.ChallengeRepository;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeRankingInitializer implements ApplicationRunner {
+    private final ChallengeRepository challengeRepository;
+    private final ChallengePopularityRanking popularityRanking;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<ChallengePopularity> snapshot = challengeRepository.findAllPopularities();
+        popularityRanking.rebuild(snapshot);
+        log.info("Rebuilt challenge popularity ranking with {} challenges", snapshot.size());
+    }
+}
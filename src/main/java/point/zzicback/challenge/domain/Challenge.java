@@ -2,11 +2,15 @@ package point.zzicback.challenge.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.*;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "challenge")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Challenge {
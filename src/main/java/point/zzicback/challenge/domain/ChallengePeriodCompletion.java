@@ -0,0 +1,40 @@
+package point.zzicback.challenge.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 챌린지의 기간(투두 targetDate)별 완료 수 집계
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "challenge_period_completions",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"challengeId", "periodDate"}))
+public class ChallengePeriodCompletion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long challengeId;
+
+    @Column(nullable = false)
+    private LocalDate periodDate;
+
+    @Column(nullable = false)
+    private long completedCount;
+
+    @Builder
+    public ChallengePeriodCompletion(Long challengeId, LocalDate periodDate, long completedCount) {
+        this.challengeId = challengeId;
+        this.periodDate = periodDate;
+        this.completedCount = completedCount;
+    }
+
+    public void updateCompletedCount(long completedCount) {
+        this.completedCount = completedCount;
+    }
+}
@@ -0,0 +1,10 @@
+package point.zzicback.challenge.domain;
+
+import java.time.LocalDate;
+
+public record ChallengePeriodCompletionCount(
+        Long challengeId,
+        LocalDate periodDate,
+        long completedCount
+) {
+}
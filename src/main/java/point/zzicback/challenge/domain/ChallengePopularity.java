@@ -0,0 +1,16 @@
+package point.zzicback.challenge.domain;
+
+import java.time.LocalDate;
+
+/**
+ * 인기순 랭킹의 한 항목 (활성 참여자 수, 시작일, 챌린지 ID 순으로 정렬)
+ */
+public record ChallengePopularity(
+        Long challengeId,
+        LocalDate startDate,
+        long activeCount
+) {
+    public ChallengePopularity withActiveCount(long activeCount) {
+        return new ChallengePopularity(challengeId, startDate, Math.max(0, activeCount));
+    }
+}
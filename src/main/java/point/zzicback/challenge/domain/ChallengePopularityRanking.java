@@ -0,0 +1,19 @@
+package point.zzicback.challenge.domain;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 챌린지 인기순 랭킹 저장소 인터페이스
+ * 참여/탈퇴 시 증분 갱신되며, 애플리케이션 시작 시 DB 기준으로 재구성됩니다.
+ * 구현체는 Infrastructure 계층에서 담당
+ */
+public interface ChallengePopularityRanking {
+    void register(Long challengeId, LocalDate startDate);
+    void increment(Long challengeId);
+    void decrement(Long challengeId);
+    void remove(Long challengeId);
+    List<ChallengePopularity> findPage(long offset, int limit);
+    long count();
+    void rebuild(Collection<ChallengePopularity> snapshot);
+}
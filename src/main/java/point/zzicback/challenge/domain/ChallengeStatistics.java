@@ -0,0 +1,46 @@
+package point.zzicback.challenge.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 챌린지별 참여자/완료자 집계
+ * 참여, 탈퇴, 투두 완료/취소 시 증분 갱신되며 주기적으로 원본 테이블과 대조하여 보정합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "challenge_statistics")
+public class ChallengeStatistics {
+    @Id
+    private Long challengeId;
+
+    @Column(nullable = false)
+    private long totalParticipants;
+
+    @Column(nullable = false)
+    private long activeParticipants;
+
+    @Column(nullable = false)
+    private long completedParticipants;
+
+    public ChallengeStatistics(Long challengeId) {
+        this.challengeId = challengeId;
+    }
+
+    public boolean matches(ChallengeStatisticsSnapshot snapshot) {
+        return totalParticipants == snapshot.totalParticipants()
+                && activeParticipants == snapshot.activeParticipants()
+                && completedParticipants == snapshot.completedParticipants();
+    }
+
+    public void apply(ChallengeStatisticsSnapshot snapshot) {
+        this.totalParticipants = snapshot.totalParticipants();
+        this.activeParticipants = snapshot.activeParticipants();
+        this.completedParticipants = snapshot.completedParticipants();
+    }
+
+    public ChallengeStatisticsSnapshot toSnapshot() {
+        return new ChallengeStatisticsSnapshot(challengeId, totalParticipants, activeParticipants, completedParticipants);
+    }
+}
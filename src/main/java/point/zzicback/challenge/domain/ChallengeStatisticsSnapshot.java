@@ -0,0 +1,12 @@
+package point.zzicback.challenge.domain;
+
+/**
+ * 챌린지 참여/완료 집계 값
+ */
+public record ChallengeStatisticsSnapshot(
+        Long challengeId,
+        long totalParticipants,
+        long activeParticipants,
+        long completedParticipants
+) {
+}
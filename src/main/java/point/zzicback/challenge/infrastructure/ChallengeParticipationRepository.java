@@ -1,9 +1,14 @@
 package point.zzicback.challenge.infrastructure;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.*;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import point.zzicback.challenge.application.dto.result.*;
 import point.zzicback.challenge.domain.ChallengeParticipation;
+import point.zzicback.experience.domain.LeaderboardMembership;
 import point.zzicback.member.domain.Member;
 
+import java.time.LocalDate;
 import java.util.*;
 
 public interface ChallengeParticipationRepository extends JpaRepository<ChallengeParticipation, Long> {
@@ -11,4 +16,42 @@ public interface ChallengeParticipationRepository extends JpaRepository<Challeng
     List<ChallengeParticipation> findByMemberAndJoinOutIsNull(Member member);
     Optional<ChallengeParticipation> findByMemberAndChallenge_IdAndJoinOutIsNull(Member member, Long challengeId);
     boolean existsByMemberAndChallenge_IdAndJoinOutIsNull(Member member, Long challengeId);
+
+    // 주어진 챌린지 중 회원이 현재 참여 중인 챌린지 ID 조회
+    @Query("SELECT p.challenge.id FROM ChallengeParticipation p " +
+           "WHERE p.member.id = :memberId AND p.joinOut IS NULL AND p.challenge.id IN :challengeIds")
+    List<Long> findActiveChallengeIds(@Param("memberId") UUID memberId,
+                                      @Param("challengeIds") Collection<Long> challengeIds);
+
+    // 챌린지의 활성 참여자를 회원과 조인하여 페이지 단위로 조회
+    @Query(value = "SELECT new point.zzicback.challenge.application.dto.result.ParticipantResult(m.id, m.email, m.nickname, p.joinedAt) " +
+                   "FROM ChallengeParticipation p JOIN p.member m " +
+                   "WHERE p.challenge.id = :challengeId AND p.joinOut IS NULL " +
+                   "ORDER BY p.id ASC",
+           countQuery = "SELECT COUNT(p) FROM ChallengeParticipation p " +
+                        "WHERE p.challenge.id = :challengeId AND p.joinOut IS NULL")
+    Page<ParticipantResult> findActiveParticipants(@Param("challengeId") Long challengeId, Pageable pageable);
+
+    // 리더보드 재구성용 활성 참여 (챌린지 ID, 회원 ID) 목록
+    @Query("SELECT new point.zzicback.experience.domain.LeaderboardMembership(p.challenge.id, p.member.id) " +
+           "FROM ChallengeParticipation p WHERE p.joinOut IS NULL")
+    List<LeaderboardMembership> findAllActiveMemberships();
+
+    // 활성 참여자와 경험치를 한 번에 조회 (경험치 행이 없으면 0)
+    @Query(value = "SELECT new point.zzicback.challenge.application.dto.result.ParticipantExperienceResult(" +
+                   "m.id, m.email, m.nickname, p.joinedAt, COALESCE(e.experience, 0)) " +
+                   "FROM ChallengeParticipation p JOIN p.member m " +
+                   "LEFT JOIN MemberExperience e ON e.memberId = m.id " +
+                   "WHERE p.challenge.id = :challengeId AND p.joinOut IS NULL " +
+                   "ORDER BY p.id ASC",
+           countQuery = "SELECT COUNT(p) FROM ChallengeParticipation p " +
+                        "WHERE p.challenge.id = :challengeId AND p.joinOut IS NULL")
+    Page<ParticipantExperienceResult> findActiveParticipantExperiences(@Param("challengeId") Long challengeId, Pageable pageable);
+
+    // 기준일에 진행 중인 챌린지의 활성 참여 목록을 챌린지와 함께 조회
+    @Query("SELECT p FROM ChallengeParticipation p JOIN FETCH p.challenge c " +
+           "WHERE p.member = :member AND p.joinOut IS NULL " +
+           "AND c.startDate <= :date AND c.endDate >= :date")
+    List<ChallengeParticipation> findActiveWithChallengeByMemberOn(@Param("member") Member member,
+                                                                   @Param("date") LocalDate date);
 }
@@ -0,0 +1,34 @@
+package point.zzicback.challenge.infrastructure;
+
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import point.zzicback.challenge.domain.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ChallengePeriodCompletionRepository extends JpaRepository<ChallengePeriodCompletion, Long> {
+
+    List<ChallengePeriodCompletion> findByChallengeIdOrderByPeriodDateDesc(Long challengeId);
+
+    void deleteByChallengeId(Long challengeId);
+
+    @Modifying
+    @Query("UPDATE ChallengePeriodCompletion c SET c.completedCount = c.completedCount + :delta " +
+           "WHERE c.challengeId = :challengeId AND c.periodDate = :periodDate")
+    int applyDelta(@Param("challengeId") Long challengeId,
+                   @Param("periodDate") LocalDate periodDate,
+                   @Param("delta") long delta);
+
+    // 삭제된 챌린지의 기간별 완료 수
+    @Modifying
+    @Query("DELETE FROM ChallengePeriodCompletion c WHERE c.challengeId NOT IN (SELECT ch.id FROM Challenge ch)")
+    int deleteOrphans();
+
+    // 원본 테이블 기준 기간별 완료 수
+    @Query("SELECT new point.zzicback.challenge.domain.ChallengePeriodCompletionCount(" +
+           "ct.challengeParticipation.challenge.id, ct.targetDate, COUNT(ct)) " +
+           "FROM ChallengeTodo ct WHERE ct.done = true AND ct.challengeParticipation.challenge.id = :challengeId " +
+           "GROUP BY ct.challengeParticipation.challenge.id, ct.targetDate")
+    List<ChallengePeriodCompletionCount> findSourceCounts(@Param("challengeId") Long challengeId);
+}
@@ -2,7 +2,10 @@ package point.zzicback.challenge.infrastructure;
 
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.*;
-import point.zzicback.challenge.domain.Challenge;
+import org.springframework.data.repository.query.Param;
+import point.zzicback.challenge.domain.*;
+
+import java.util.*;
 
 public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
 
@@ -10,17 +13,61 @@ public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
            countQuery = "SELECT COUNT(DISTINCT c) FROM Challenge c")
     Page<Challenge> findAllWithParticipations(Pageable pageable);
 
-    @Query("SELECT c FROM Challenge c WHERE LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Challenge> searchByKeyword(String keyword, Pageable pageable);
+    /**
+     * 키워드와 참여 여부 조건으로 챌린지를 조회합니다.
+     * keyword, join이 null이면 해당 조건은 적용되지 않으며, 참여 여부는 EXISTS 서브쿼리로 DB에서 필터링합니다.
+     */
+    @Query("""
+        SELECT c FROM Challenge c
+        WHERE (:keyword IS NULL
+               OR LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
+               OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%')))
+        AND (:join IS NULL
+             OR (:join = true AND EXISTS (SELECT 1 FROM ChallengeParticipation cp
+                                          WHERE cp.challenge = c AND cp.member.id = :memberId AND cp.joinOut IS NULL))
+             OR (:join = false AND NOT EXISTS (SELECT 1 FROM ChallengeParticipation cp
+                                               WHERE cp.challenge = c AND cp.member.id = :memberId AND cp.joinOut IS NULL)))
+        """)
+    Page<Challenge> searchWithJoinFilter(@Param("keyword") String keyword,
+                                         @Param("memberId") UUID memberId,
+                                         @Param("join") Boolean join,
+                                         Pageable pageable);
 
-    @Query("SELECT c FROM Challenge c LEFT JOIN c.participations p " +
-           "GROUP BY c " +
-           "ORDER BY COUNT(CASE WHEN p.joinOut IS NULL THEN 1 ELSE NULL END) DESC, c.startDate DESC")
-    Page<Challenge> findAllOrderedByPopularity(Pageable pageable);
+    /**
+     * {@link #searchWithJoinFilter}와 같은 조건으로, 활성 참여자 수가 많은 순으로 정렬하여 조회합니다.
+     */
+    @Query(value = """
+        SELECT c FROM Challenge c LEFT JOIN c.participations p
+        WHERE (:keyword IS NULL
+               OR LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
+               OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%')))
+        AND (:join IS NULL
+             OR (:join = true AND EXISTS (SELECT 1 FROM ChallengeParticipation cp
+                                          WHERE cp.challenge = c AND cp.member.id = :memberId AND cp.joinOut IS NULL))
+             OR (:join = false AND NOT EXISTS (SELECT 1 FROM ChallengeParticipation cp
+                                               WHERE cp.challenge = c AND cp.member.id = :memberId AND cp.joinOut IS NULL)))
+        GROUP BY c
+        ORDER BY COUNT(CASE WHEN p.joinOut IS NULL THEN 1 ELSE NULL END) DESC, c.startDate DESC
+        """,
+           countQuery = """
+        SELECT COUNT(c) FROM Challenge c
+        WHERE (:keyword IS NULL
+               OR LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
+               OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%')))
+        AND (:join IS NULL
+             OR (:join = true AND EXISTS (SELECT 1 FROM ChallengeParticipation cp
+                                          WHERE cp.challenge = c AND cp.member.id = :memberId AND cp.joinOut IS NULL))
+             OR (:join = false AND NOT EXISTS (SELECT 1 FROM ChallengeParticipation cp
+                                               WHERE cp.challenge = c AND cp.member.id = :memberId AND cp.joinOut IS NULL)))
+        """)
+    Page<Challenge> searchWithJoinFilterOrderedByPopularity(@Param("keyword") String keyword,
+                                                            @Param("memberId") UUID memberId,
+                                                            @Param("join") Boolean join,
+                                                            Pageable pageable);
 
-    @Query("SELECT c FROM Challenge c LEFT JOIN c.participations p " +
-           "WHERE (LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "GROUP BY c " +
-           "ORDER BY COUNT(CASE WHEN p.joinOut IS NULL THEN 1 ELSE NULL END) DESC, c.startDate DESC")
-    Page<Challenge> searchByKeywordOrderedByPopularity(String keyword, Pageable pageable);
+    // 인기순 랭킹 재구성을 위한 챌린지별 활성 참여자 수 조회
+    @Query("SELECT new point.zzicback.challenge.domain.ChallengePopularity(c.id, c.startDate, COUNT(p)) " +
+           "FROM Challenge c LEFT JOIN c.participations p ON p.joinOut IS NULL " +
+           "GROUP BY c.id, c.startDate")
+    List<ChallengePopularity> findAllPopularities();
 }
@@ -0,0 +1,44 @@
+package point.zzicback.challenge.infrastructure;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import point.zzicback.challenge.domain.*;
+
+import java.util.*;
+
+public interface ChallengeStatisticsRepository extends JpaRepository<ChallengeStatistics, Long> {
+
+    @Modifying
+    @Query("UPDATE ChallengeStatistics s SET " +
+           "s.totalParticipants = s.totalParticipants + :totalDelta, " +
+           "s.activeParticipants = s.activeParticipants + :activeDelta, " +
+           "s.completedParticipants = s.completedParticipants + :completedDelta " +
+           "WHERE s.challengeId = :challengeId")
+    int applyDelta(@Param("challengeId") Long challengeId,
+                   @Param("totalDelta") long totalDelta,
+                   @Param("activeDelta") long activeDelta,
+                   @Param("completedDelta") long completedDelta);
+
+    // 집계 보정 중 같은 챌린지의 증분 갱신(참여/완료/취소)이 끼어들지 않도록 잠금 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ChallengeStatistics s WHERE s.challengeId = :challengeId")
+    Optional<ChallengeStatistics> findByIdForUpdate(@Param("challengeId") Long challengeId);
+
+    @Query("SELECT c.id FROM Challenge c ORDER BY c.id ASC")
+    List<Long> findAllChallengeIds();
+
+    // 삭제된 챌린지의 집계
+    @Modifying
+    @Query("DELETE FROM ChallengeStatistics s WHERE s.challengeId NOT IN (SELECT c.id FROM Challenge c)")
+    int deleteOrphans();
+
+    // 원본 테이블 기준 집계 (단건)
+    @Query("SELECT new point.zzicback.challenge.domain.ChallengeStatisticsSnapshot(c.id, " +
+           "(SELECT COUNT(p) FROM ChallengeParticipation p WHERE p.challenge = c), " +
+           "(SELECT COUNT(p) FROM ChallengeParticipation p WHERE p.challenge = c AND p.joinOut IS NULL), " +
+           "(SELECT COUNT(DISTINCT ct.challengeParticipation.id) FROM ChallengeTodo ct " +
+           " WHERE ct.challengeParticipation.challenge = c AND ct.done = true)) " +
+           "FROM Challenge c WHERE c.id = :challengeId")
+    Optional<ChallengeStatisticsSnapshot> findSourceSnapshot(@Param("challengeId") Long challengeId);
+}
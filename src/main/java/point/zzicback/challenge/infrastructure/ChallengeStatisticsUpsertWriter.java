@@ -0,0 +1,80 @@
+package point.zzicback.challenge.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import point.zzicback.challenge.domain.ChallengeStatisticsSnapshot;
+import point.zzicback.common.persistence.DatabasePlatform;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * 집계 행의 생성과 증분을 한 문장의 upsert로 처리합니다.
+ * UPDATE 후 INSERT 방식은 동시 요청이 모두 0건 갱신을 보고 INSERT하여 유니크 제약에 실패하므로,
+ * PostgreSQL은 ON CONFLICT, 개발용 H2는 MERGE를 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChallengeStatisticsUpsertWriter {
+    private static final String POSTGRES_STATISTICS_SQL =
+            "INSERT INTO challenge_statistics " +
+            "(challenge_id, total_participants, active_participants, completed_participants) " +
+            "VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (challenge_id) DO UPDATE SET " +
+            "total_participants = challenge_statistics.total_participants + ?, " +
+            "active_participants = challenge_statistics.active_participants + ?, " +
+            "completed_participants = challenge_statistics.completed_participants + ?";
+
+    private static final String H2_STATISTICS_SQL =
+            "MERGE INTO challenge_statistics t " +
+            "USING (SELECT CAST(? AS BIGINT) AS challenge_id) s ON t.challenge_id = s.challenge_id " +
+            "WHEN MATCHED THEN UPDATE SET " +
+            "total_participants = t.total_participants + ?, " +
+            "active_participants = t.active_participants + ?, " +
+            "completed_participants = t.completed_participants + ? " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(challenge_id, total_participants, active_participants, completed_participants) " +
+            "VALUES (s.challenge_id, ?, ?, ?)";
+
+    private static final String POSTGRES_PERIOD_SQL =
+            "INSERT INTO challenge_period_completions (challenge_id, period_date, completed_count) " +
+            "VALUES (?, ?, ?) " +
+            "ON CONFLICT (challenge_id, period_date) DO UPDATE SET " +
+            "completed_count = challenge_period_completions.completed_count + EXCLUDED.completed_count";
+
+    private static final String H2_PERIOD_SQL =
+            "MERGE INTO challenge_period_completions t " +
+            "USING (SELECT CAST(? AS BIGINT) AS challenge_id, CAST(? AS DATE) AS period_date, " +
+            "CAST(? AS BIGINT) AS delta) s " +
+            "ON t.challenge_id = s.challenge_id AND t.period_date = s.period_date " +
+            "WHEN MATCHED THEN UPDATE SET completed_count = t.completed_count + s.delta " +
+            "WHEN NOT MATCHED THEN INSERT (challenge_id, period_date, completed_count) " +
+            "VALUES (s.challenge_id, s.period_date, s.delta)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    /**
+     * 집계 행이 없으면 {@code source}(변경이 반영된 원본 기준 집계)로 생성하고, 이미 있으면 증분만 더합니다.
+     */
+    public void upsertStatistics(ChallengeStatisticsSnapshot source,
+                                 long totalDelta, long activeDelta, long completedDelta) {
+        if (databasePlatform.isPostgres()) {
+            jdbcTemplate.update(POSTGRES_STATISTICS_SQL,
+                    source.challengeId(), source.totalParticipants(),
+                    source.activeParticipants(), source.completedParticipants(),
+                    totalDelta, activeDelta, completedDelta);
+        } else {
+            jdbcTemplate.update(H2_STATISTICS_SQL,
+                    source.challengeId(),
+                    totalDelta, activeDelta, completedDelta,
+                    source.totalParticipants(), source.activeParticipants(), source.completedParticipants());
+        }
+    }
+
+    public void incrementPeriodCompletion(Long challengeId, LocalDate periodDate, long delta) {
+        jdbcTemplate.update(databasePlatform.isPostgres() ? POSTGRES_PERIOD_SQL : H2_PERIOD_SQL,
+                challengeId, Date.valueOf(periodDate), delta);
+    }
+}
@@ -3,14 +3,27 @@ package point.zzicback.challenge.infrastructure;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import point.zzicback.challenge.domain.*;
+import point.zzicback.member.domain.Member;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.*;
 
 public interface ChallengeTodoRepository extends JpaRepository<ChallengeTodo, Long> {
 
     Optional<ChallengeTodo> findByChallengeParticipation(ChallengeParticipation challengeParticipation);
     Optional<ChallengeTodo> findByChallengeParticipationAndTargetDate(ChallengeParticipation challengeParticipation, LocalDate targetDate);
+    boolean existsByChallengeParticipationAndDoneTrue(ChallengeParticipation challengeParticipation);
     @Query("SELECT COUNT(DISTINCT ct.challengeParticipation.id) FROM ChallengeTodo ct WHERE ct.challengeParticipation.challenge.id = :challengeId AND ct.done = true")
     long countCompletedParticipantsByChallengeId(@Param("challengeId") Long challengeId);
+
+    /**
+     * 기준일에 진행 중인 챌린지의 활성 참여에 속한 챌린지 투두를 참여/챌린지와 함께 한 번에 조회합니다.
+     * 일일 챌린지는 기준일의 투두만, 주간/월간 챌린지는 참여별 투두를 모두 조회합니다.
+     */
+    @Query("SELECT ct FROM ChallengeTodo ct " +
+           "JOIN FETCH ct.challengeParticipation p JOIN FETCH p.challenge c " +
+           "WHERE p.member = :member AND p.joinOut IS NULL " +
+           "AND c.startDate <= :date AND c.endDate >= :date " +
+           "AND (c.periodType <> point.zzicback.challenge.domain.PeriodType.DAILY OR ct.targetDate = :date)")
+    List<ChallengeTodo> findActiveByMemberOn(@Param("member") Member member, @Param("date") LocalDate date);
 }
@@ -0,0 +1,112 @@
+package point.zzicback.challenge.infrastructure;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import point.zzicback.challenge.domain.*;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * InMemory 기반 ChallengePopularityRanking 구현체
+ * 정렬된 skip list로 랭킹을 유지하여 갱신은 O(log n), 페이지 조회는 O(offset + pageSize)로 처리합니다.
+ * 갱신은 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 ReentrantLock 으로 직렬화합니다.
+ */
+@Repository
+@Profile("!redis")
+public class InMemoryChallengePopularityRanking implements ChallengePopularityRanking {
+    private static final Comparator<ChallengePopularity> POPULARITY_ORDER = Comparator
+            .comparingLong(ChallengePopularity::activeCount).reversed()
+            .thenComparing(ChallengePopularity::startDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(ChallengePopularity::challengeId, Comparator.reverseOrder());
+
+    private final ConcurrentSkipListSet<ChallengePopularity> ranking = new ConcurrentSkipListSet<>(POPULARITY_ORDER);
+    private final ConcurrentMap<Long, ChallengePopularity> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Override
+    public void register(Long challengeId, LocalDate startDate) {
+        lock.lock();
+        try {
+            replace(new ChallengePopularity(challengeId, startDate, 0));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void increment(Long challengeId) {
+        lock.lock();
+        try {
+            adjust(challengeId, 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void decrement(Long challengeId) {
+        lock.lock();
+        try {
+            adjust(challengeId, -1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long challengeId) {
+        lock.lock();
+        try {
+            ChallengePopularity previous = entries.remove(challengeId);
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<ChallengePopularity> findPage(long offset, int limit) {
+        return ranking.stream()
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return entries.size();
+    }
+
+    @Override
+    public void rebuild(Collection<ChallengePopularity> snapshot) {
+        lock.lock();
+        try {
+            ranking.clear();
+            entries.clear();
+            snapshot.forEach(this::replace);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjust(Long challengeId, long delta) {
+        ChallengePopularity current = entries.get(challengeId);
+        if (current == null) {
+            return;
+        }
+        replace(current.withActiveCount(current.activeCount() + delta));
+    }
+
+    private void replace(ChallengePopularity next) {
+        ChallengePopularity previous = entries.put(next.challengeId(), next);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        ranking.add(next);
+    }
+}
@@ -0,0 +1,125 @@
+package point.zzicback.challenge.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import point.zzicback.challenge.domain.*;
+import point.zzicback.common.redis.RedisLock;
+
+import java.time.*;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Redis sorted set 기반 ChallengePopularityRanking 구현체
+ * 여러 노드가 하나의 랭킹을 공유합니다.
+ * 점수 = 활성 참여자 수 * SCORE_SCALE + (시작일(epoch day) + 1, 시작일이 없으면 0) 로 인코딩하여 참여자 수, 시작일 순으로 정렬됩니다.
+ * 점수가 같으면 Redis 는 멤버 문자열의 역순으로 정렬하므로, ID 를 고정 폭 0 채움 문자열로 저장하여
+ * InMemory 구현과 같은 ID 내림차순이 되도록 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Profile("redis")
+public class RedisChallengePopularityRanking implements ChallengePopularityRanking {
+    private static final String KEY = "challenge:popularity";
+    private static final long SCORE_SCALE = 1_000_000L;
+    private static final String MEMBER_FORMAT = "%019d";
+    private static final String REBUILD_KEY_PREFIX = "challenge:popularity:rebuild:";
+    private static final String REBUILD_LOCK_KEY = "challenge:popularity:rebuild-lock";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(5);
+    // KEYS[1]=랭킹 키, ARGV[1]=챌린지 ID, ARGV[2]=증감 점수 / 등록된 챌린지만, 참여자 수가 음수가 되지 않도록 조회와 증감을 원자적으로 처리
+    private static final RedisScript<Long> ADJUST_SCRIPT = RedisScript.of("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not score then
+                return 0
+            end
+            local delta = tonumber(ARGV[2])
+            if delta < 0 and tonumber(score) < -delta then
+                return 0
+            end
+            redis.call('ZINCRBY', KEYS[1], delta, ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLock redisLock;
+
+    @Override
+    public void register(Long challengeId, LocalDate startDate) {
+        redisTemplate.opsForZSet().add(KEY, member(challengeId), score(startDate, 0));
+    }
+
+    @Override
+    public void increment(Long challengeId) {
+        redisTemplate.execute(ADJUST_SCRIPT, List.of(KEY), member(challengeId), String.valueOf(SCORE_SCALE));
+    }
+
+    @Override
+    public void decrement(Long challengeId) {
+        redisTemplate.execute(ADJUST_SCRIPT, List.of(KEY), member(challengeId), String.valueOf(-SCORE_SCALE));
+    }
+
+    @Override
+    public void remove(Long challengeId) {
+        redisTemplate.opsForZSet().remove(KEY, member(challengeId));
+    }
+
+    @Override
+    public List<ChallengePopularity> findPage(long offset, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(KEY, offset, offset + limit - 1);
+        if (tuples == null) {
+            return List.of();
+        }
+        return tuples.stream()
+                .map(this::toPopularity)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        Long size = redisTemplate.opsForZSet().zCard(KEY);
+        return size != null ? size : 0;
+    }
+
+    /**
+     * 다른 노드가 재구성 중이면 건너뜁니다.
+     * 임시 키에 쌓은 뒤 RENAME 으로 교체하므로 조회 중인 랭킹이 비는 구간이 없습니다.
+     */
+    @Override
+    public void rebuild(Collection<ChallengePopularity> snapshot) {
+        redisLock.runExclusively(REBUILD_LOCK_KEY, REBUILD_LOCK_TTL, () -> {
+            if (snapshot.isEmpty()) {
+                redisTemplate.delete(KEY);
+                return;
+            }
+            String tempKey = REBUILD_KEY_PREFIX + System.currentTimeMillis();
+            Set<ZSetOperations.TypedTuple<String>> tuples = snapshot.stream()
+                    .map(p -> ZSetOperations.TypedTuple.of(member(p.challengeId()), score(p.startDate(), p.activeCount())))
+                    .collect(Collectors.toSet());
+            redisTemplate.opsForZSet().add(tempKey, tuples);
+            redisTemplate.rename(tempKey, KEY);
+        });
+    }
+
+    private static String member(Long challengeId) {
+        return String.format(MEMBER_FORMAT, challengeId);
+    }
+
+    // 시작일이 없는 챌린지는 InMemory 구현의 nullsLast 와 같이 같은 참여자 수 중 가장 뒤에 오도록 0 으로 인코딩
+    private double score(LocalDate startDate, long activeCount) {
+        long day = startDate != null ? startDate.toEpochDay() + 1 : 0;
+        return (double) (activeCount * SCORE_SCALE + day);
+    }
+
+    private ChallengePopularity toPopularity(ZSetOperations.TypedTuple<String> tuple) {
+        long score = tuple.getScore() != null ? tuple.getScore().longValue() : 0;
+        long day = score % SCORE_SCALE;
+        return new ChallengePopularity(
+                Long.valueOf(tuple.getValue()),
+                day != 0 ? LocalDate.ofEpochDay(day - 1) : null,
+                score / SCORE_SCALE);
+    }
+}
@@ -21,6 +21,7 @@ import point.zzicback.member.application.MemberService;
 import point.zzicback.member.domain.Member;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Tag(name = "챌린지", description = "챌린지 관련 API")
 @RestController
@@ -34,6 +35,7 @@ public class ChallengeController {
     private final ChallengePresentationMapper challengePresentationMapper;
     private final ChallengeTodoService todoService;
     private final ChallengeTodoPresentationMapper todoMapper;
+    private final ChallengeStatisticsService statisticsService;
 
     @Operation(
         summary = "챌린지 생성", 
@@ -142,6 +144,27 @@ public class ChallengeController {
         return pageDto.map(challengePresentationMapper::toResponse);
     }
 
+    @Operation(summary = "챌린지 참여자 레벨 목록 조회", description = "특정 챌린지의 참여자 목록을 레벨/경험치와 함께 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "참여자 레벨 목록 조회 성공")
+    @GetMapping("/{challengeId}/participants/levels")
+    public Page<ParticipantLevelResponse> getParticipantLevels(
+            @PathVariable Long challengeId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        return participationService.getParticipantLevels(challengeId, pageable)
+                .map(challengePresentationMapper::toResponse);
+    }
+
+    @Operation(summary = "챌린지 기간별 완료 수 조회", description = "특정 챌린지의 기간(투두 목표일)별 완료 수를 최신 기간부터 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "기간별 완료 수 조회 성공")
+    @GetMapping("/{challengeId}/statistics/periods")
+    public List<ChallengePeriodCompletionResponse> getPeriodCompletions(@PathVariable Long challengeId) {
+        return statisticsService.getPeriodCompletions(challengeId).stream()
+                .map(challengePresentationMapper::toResponse)
+                .toList();
+    }
+
     @Operation(summary = "챌린지 참여", description = "특정 챌린지에 참여합니다.")
     @ApiResponse(responseCode = "201", description = "챌린지 참여 성공")
     @PostMapping("/{challengeId}/participants")
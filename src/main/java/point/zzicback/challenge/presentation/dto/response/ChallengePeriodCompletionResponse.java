@@ -0,0 +1,14 @@
+package point.zzicback.challenge.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "챌린지 기간별 완료 수 응답 DTO")
+public record ChallengePeriodCompletionResponse(
+    @Schema(description = "기간(투두 목표일)", example = "2024-01-01")
+    LocalDate periodDate,
+
+    @Schema(description = "해당 기간 완료 수", example = "12")
+    long completedCount
+) {}
@@ -0,0 +1,30 @@
+package point.zzicback.challenge.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "챌린지 참여자 레벨 응답 DTO")
+public record ParticipantLevelResponse(
+    @Schema(description = "회원 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    UUID id,
+
+    @Schema(description = "회원 이메일", example = "user@example.com")
+    String email,
+
+    @Schema(description = "회원 닉네임", example = "zzic_user")
+    String nickname,
+
+    @Schema(description = "참여 일시", example = "2024-01-01T12:00:00")
+    LocalDateTime joinedAt,
+
+    @Schema(description = "현재 보유 경험치", example = "850")
+    int experience,
+
+    @Schema(description = "현재 레벨", example = "5")
+    int level,
+
+    @Schema(description = "레벨명", example = "나무늘보")
+    String levelName
+) {}
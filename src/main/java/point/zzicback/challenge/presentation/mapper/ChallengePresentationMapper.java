@@ -58,6 +58,12 @@ public interface ChallengePresentationMapper {
 
     /** Application DTO -> Presentation 레이어 응답 DTO 변환 */
     ParticipantResponse toResponse(ParticipantResult dto);
+
+    /** Application DTO -> Presentation 레이어 응답 DTO 변환 */
+    ParticipantLevelResponse toResponse(ParticipantLevelResult dto);
+
+    /** Application DTO -> Presentation 레이어 응답 DTO 변환 */
+    ChallengePeriodCompletionResponse toResponse(ChallengePeriodCompletionResult dto);
     
     default String emptyStringToNull(String value) {
         return (value == null || value.trim().isEmpty()) ? null : value;
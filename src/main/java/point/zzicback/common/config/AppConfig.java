@@ -2,9 +2,12 @@ package point.zzicback.common.config;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
-import point.zzicback.auth.config.properties.JwtProperties;
+import point.zzicback.auth.config.properties.*;
+import point.zzicback.category.config.properties.CategoryProperties;
+import point.zzicback.common.diagnostics.RequestDiagnosticsProperties;
+import point.zzicback.common.ratelimit.RateLimitProperties;
 
 @Configuration
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, PasswordHashingProperties.class, CategoryProperties.class, RequestDiagnosticsProperties.class, RateLimitProperties.class})
 public class AppConfig {
 }
@@ -0,0 +1,39 @@
+package point.zzicback.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.*;
+import org.springframework.scheduling.annotation.*;
+import point.zzicback.common.event.*;
+
+/**
+ * 커밋 이후로 미뤄도 되는 부수 효과는 {@code @TransactionalEventListener(AFTER_COMMIT)} 와
+ * {@code @Async(AsyncEventConfig.EVENT_EXECUTOR)} 를 함께 사용해 요청 스레드 밖에서 처리합니다.
+ * 호출자 트랜잭션에 참여해야 하는 리스너(아웃박스 적재 등)는 기존처럼 동기 {@code @EventListener} 로 둡니다.
+ * events.async.enabled=false 이면 동기 모드로 동작합니다 (테스트용).
+ */
+@Configuration
+@EnableAsync
+public class AsyncEventConfig implements AsyncConfigurer {
+  public static final String EVENT_EXECUTOR = "eventTaskExecutor";
+
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
+  public AsyncEventConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Bean(name = EVENT_EXECUTOR)
+  public InstrumentedEventExecutor eventTaskExecutor(
+      @Value("${events.async.enabled:true}") boolean async,
+      MeterRegistry meterRegistry) {
+    return new InstrumentedEventExecutor(async, meterRegistry);
+  }
+
+  @Override
+  public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+    return new CountingAsyncExceptionHandler(meterRegistry::getObject);
+  }
+}
@@ -0,0 +1,18 @@
+package point.zzicback.common.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.*;
+import point.zzicback.common.ratelimit.RateLimitFilter;
+
+/**
+ * RateLimitFilter 는 SecurityConfig 에서 JWT 인증 필터 뒤에 추가하므로 서블릿 필터로 중복 등록되지 않도록 합니다.
+ */
+@Configuration
+public class RateLimitConfig {
+  @Bean
+  public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+    FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+    registration.setEnabled(false);
+    return registration;
+  }
+}
@@ -0,0 +1,62 @@
+package point.zzicback.common.diagnostics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 샘플링된 요청에 대해서만 진단 로그를 남깁니다.
+ * 샘플링 여부는 요청마다 한 번 결정되어 요청 속성에 저장되며, 샘플링되지 않은 요청은 메시지를 만들지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestDiagnostics {
+  private static final String SAMPLED_ATTRIBUTE = RequestDiagnostics.class.getName() + ".SAMPLED";
+
+  private final RequestDiagnosticsProperties properties;
+
+  public boolean isSampled(HttpServletRequest request) {
+    if (!properties.enabled() || !log.isEnabledForLevel(properties.level())) {
+      return false;
+    }
+    Object decision = request.getAttribute(SAMPLED_ATTRIBUTE);
+    if (decision instanceof Boolean sampled) {
+      return sampled;
+    }
+    boolean sampled = ThreadLocalRandom.current().nextDouble() < properties.sampleRate();
+    request.setAttribute(SAMPLED_ATTRIBUTE, sampled);
+    return sampled;
+  }
+
+  public void record(HttpServletRequest request, String event, Supplier<Object> detail) {
+    if (!isSampled(request)) {
+      return;
+    }
+    // 기본 콘솔 패턴은 key-value 를 출력하지 않으므로 필드를 메시지 인자로 남김 (헤더/상세는 출력 시점에 생성)
+    log.atLevel(properties.level())
+        .setMessage("request diagnostics event={} method={} uri={} headers={} detail={}")
+        .addArgument(event)
+        .addArgument(request.getMethod())
+        .addArgument(request.getRequestURI())
+        .addArgument(() -> allowedHeaders(request))
+        .addArgument(detail)
+        .log();
+  }
+
+  private Map<String, String> allowedHeaders(HttpServletRequest request) {
+    Map<String, String> headers = new LinkedHashMap<>();
+    for (String name : properties.headerAllowList()) {
+      String value = request.getHeader(name);
+      if (value != null) {
+        headers.put(name, value);
+      }
+    }
+    return headers;
+  }
+}
@@ -0,0 +1,19 @@
+package point.zzicback.common.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.slf4j.event.Level;
+
+import java.util.*;
+
+/**
+ * @param sampleRate     요청 단위 샘플링 비율 (0.0 ~ 1.0)
+ * @param level          진단 로그 레벨
+ * @param headerAllowList 진단 로그에 남길 요청 헤더 (그 외 헤더는 기록하지 않음)
+ */
+@ConfigurationProperties(prefix = "diagnostics.request")
+public record RequestDiagnosticsProperties(boolean enabled, double sampleRate, Level level, List<String> headerAllowList) {
+  public RequestDiagnosticsProperties {
+    level = level != null ? level : Level.DEBUG;
+    headerAllowList = headerAllowList != null ? List.copyOf(headerAllowList) : List.of();
+  }
+}
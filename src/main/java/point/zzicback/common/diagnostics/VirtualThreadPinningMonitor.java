@@ -0,0 +1,82 @@
+package point.zzicback.common.diagnostics;
+
+import io.micrometer.core.instrument.*;
+import jdk.jfr.consumer.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * JFR 이벤트 스트림으로 가상 스레드의 캐리어 고정(jdk.VirtualThreadPinned)을 감시합니다.
+ * 임계값 이상 고정된 경우 상위 스택 프레임과 함께 경고를 남기고 virtual-threads.pinned 를 증가시킵니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "diagnostics.virtual-threads", name = "pinning-monitor", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int LOGGED_FRAMES = 8;
+
+  private final Counter pinned;
+  private final Timer pinnedDuration;
+  private final Duration threshold;
+  private RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      MeterRegistry meterRegistry,
+      @Value("${diagnostics.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+    this.threshold = threshold;
+    this.pinned = Counter.builder("virtual-threads.pinned")
+        .description("임계값 이상 캐리어 스레드에 고정된 횟수")
+        .register(meterRegistry);
+    this.pinnedDuration = Timer.builder("virtual-threads.pinned.duration")
+        .description("캐리어 스레드 고정 시간")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public synchronized void start() {
+    stream = new RecordingStream();
+    stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    stream.onEvent(PINNED_EVENT, this::onPinned);
+    stream.startAsync();
+    log.info("Virtual thread pinning monitor started (threshold {})", threshold);
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (stream != null) {
+      stream.close();
+      stream = null;
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return stream != null;
+  }
+
+  private void onPinned(RecordedEvent event) {
+    pinned.increment();
+    pinnedDuration.record(event.getDuration());
+    if (log.isWarnEnabled()) {
+      log.warn("Virtual thread pinned for {} ms\n{}", event.getDuration().toMillis(), topFrames(event.getStackTrace()));
+    }
+  }
+
+  private String topFrames(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "\t(no stack trace)";
+    }
+    return stackTrace.getFrames().stream()
+        .limit(LOGGED_FRAMES)
+        .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+            + ":" + frame.getLineNumber())
+        .collect(Collectors.joining("\n"));
+  }
+}
@@ -44,7 +44,15 @@ public class GlobalExceptionHandler {
     return detail;
   }
 
-
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<ProblemDetail> handleServiceUnavailable(ServiceUnavailableException ex) {
+    ProblemDetail detail = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+    detail.setTitle("Service Unavailable");
+    detail.setDetail(ex.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+            .body(detail);
+  }
 
   @ExceptionHandler(Exception.class)
   public ProblemDetail handleGeneric(Exception ex) {
@@ -0,0 +1,28 @@
+package point.zzicback.common.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * @Async 리스너가 던진 예외는 AsyncExecutionInterceptor 가 잡아 이 핸들러로 넘기므로 실패 수는 여기서 기록합니다.
+ * events.async.failures 는 리스너(클래스#메서드)별로 태그됩니다.
+ */
+@Slf4j
+public class CountingAsyncExceptionHandler implements AsyncUncaughtExceptionHandler {
+  private final Supplier<MeterRegistry> meterRegistry;
+
+  public CountingAsyncExceptionHandler(Supplier<MeterRegistry> meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void handleUncaughtException(Throwable ex, Method method, Object... params) {
+    String listener = method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+    meterRegistry.get().counter("events.async.failures", "listener", listener).increment();
+    log.error("Async event listener failed: {}", listener, ex);
+  }
+}
@@ -0,0 +1,54 @@
+package point.zzicback.common.event;
+
+import io.micrometer.core.instrument.*;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 가능한 이벤트 리스너(@Async + AFTER_COMMIT)를 실행하는 실행기
+ * 비동기 모드에서는 작업마다 가상 스레드를 사용하고, 동기 모드(테스트용)에서는 호출 스레드에서 바로 실행합니다.
+ * 대기 작업 수(events.async.queue.depth)와 제출~시작 지연(events.async.lag)을 기록합니다.
+ * 리스너 실패 수(events.async.failures)는 CountingAsyncExceptionHandler 에서 기록합니다.
+ */
+public class InstrumentedEventExecutor implements TaskExecutor, DisposableBean {
+  private final ExecutorService delegate;
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final Timer lag;
+
+  public InstrumentedEventExecutor(boolean async, MeterRegistry meterRegistry) {
+    this.delegate = async ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("event-", 0).factory()) : null;
+    this.lag = Timer.builder("events.async.lag")
+        .description("이벤트 제출부터 리스너 실행 시작까지의 지연")
+        .register(meterRegistry);
+    Gauge.builder("events.async.queue.depth", queueDepth, AtomicInteger::get)
+        .description("실행 대기 중인 이벤트 리스너 수")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    long submittedAt = System.nanoTime();
+    queueDepth.incrementAndGet();
+    Runnable instrumented = () -> {
+      queueDepth.decrementAndGet();
+      lag.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+      task.run();
+    };
+    if (delegate == null) {
+      instrumented.run();
+    } else {
+      delegate.execute(instrumented);
+    }
+  }
+
+  // 종료 시 남은 리스너 실행을 기다림
+  @Override
+  public void destroy() {
+    if (delegate != null) {
+      delegate.close();
+    }
+  }
+}
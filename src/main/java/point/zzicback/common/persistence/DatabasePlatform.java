@@ -0,0 +1,28 @@
+package point.zzicback.common.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접속한 DB 종류를 판별합니다.
+ * 운영(PostgreSQL)과 개발(H2)의 upsert 문법이 달라 네이티브 SQL 작성 시 분기에 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabasePlatform {
+  private final JdbcTemplate jdbcTemplate;
+  private volatile Boolean postgres;
+
+  public boolean isPostgres() {
+    Boolean result = postgres;
+    if (result == null) {
+      String productName = jdbcTemplate.execute(
+          (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+      result = "PostgreSQL".equalsIgnoreCase(productName);
+      postgres = result;
+    }
+    return result;
+  }
+}
@@ -0,0 +1,51 @@
+package point.zzicback.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.*;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 기반 RateLimiter 구현체
+ * 버킷마다 AtomicLong 하나(이론적 도착 시각, nanoTime 기준)를 CAS 로 갱신하므로 락이 없습니다.
+ * 가장 긴 period 동안 사용되지 않은 버킷은 가득 찬 상태와 같으므로 캐시에서 제거합니다.
+ */
+@Component
+@Profile("!redis")
+public class InMemoryRateLimiter implements RateLimiter {
+  private static final long MAX_BUCKETS = 100_000;
+
+  private final Cache<String, AtomicLong> buckets;
+
+  public InMemoryRateLimiter(RateLimitProperties properties) {
+    Duration idle = properties.routes().stream()
+        .map(RateLimitProperties.Route::period)
+        .max(Duration::compareTo)
+        .orElse(Duration.ofMinutes(1));
+    this.buckets = Caffeine.newBuilder()
+        .expireAfterAccess(idle)
+        .maximumSize(MAX_BUCKETS)
+        .build();
+  }
+
+  @Override
+  public RateLimitDecision tryConsume(String key, RateLimitProperties.Route route) {
+    long interval = route.emissionIntervalNanos();
+    long period = route.period().toNanos();
+    AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+    while (true) {
+      long now = System.nanoTime();
+      long current = theoreticalArrival.get();
+      long next = Math.max(current, now) + interval;
+      long ahead = next - now;
+      if (ahead > period) {
+        return RateLimitDecision.rejected(route.capacity(), Duration.ofNanos(ahead - period));
+      }
+      if (theoreticalArrival.compareAndSet(current, next)) {
+        return RateLimitDecision.allowed(route.capacity(), (period - ahead) / interval);
+      }
+    }
+  }
+}
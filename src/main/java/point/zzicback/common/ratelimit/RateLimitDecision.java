@@ -0,0 +1,17 @@
+package point.zzicback.common.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * @param remaining  이번 요청 이후 남은 토큰 수
+ * @param retryAfter 거절된 경우 다음 토큰이 채워지기까지 남은 시간
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, Duration retryAfter) {
+  public static RateLimitDecision allowed(long limit, long remaining) {
+    return new RateLimitDecision(true, limit, remaining, Duration.ZERO);
+  }
+
+  public static RateLimitDecision rejected(long limit, Duration retryAfter) {
+    return new RateLimitDecision(false, limit, 0, retryAfter);
+  }
+}
@@ -0,0 +1,94 @@
+package point.zzicback.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.*;
+import jakarta.servlet.http.*;
+import org.springframework.http.*;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.*;
+import point.zzicback.auth.domain.MemberPrincipal;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 인증된 회원별로 경로 그룹(rate-limit.routes) 단위 요청 수를 제한합니다.
+ * JWT 인증 이후에 실행되도록 SecurityConfig 에서 필터 체인에 추가하며, 익명 요청과 설정되지 않은 경로는 제한하지 않습니다.
+ * 제한 대상 응답에는 X-RateLimit-Limit / X-RateLimit-Remaining, 거절 시 429 와 Retry-After 를 포함합니다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+  public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+  public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+  private final RateLimiter rateLimiter;
+  private final RateLimitProperties properties;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final List<CompiledRoute> routes;
+
+  public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry) {
+    this.rateLimiter = rateLimiter;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+    this.routes = properties.routes().stream()
+        .map(route -> new CompiledRoute(route, route.patterns().stream().map(PathPatternParser.defaultInstance::parse).toList()))
+        .toList();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.enabled() || routes.isEmpty();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    RateLimitProperties.Route route = findRoute(request);
+    if (route == null || authentication == null || !(authentication.getPrincipal() instanceof MemberPrincipal principal)) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    RateLimitDecision decision = rateLimiter.tryConsume(route.name() + ":" + principal.idAsString(), route);
+    response.setHeader(LIMIT_HEADER, String.valueOf(decision.limit()));
+    response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+    if (decision.allowed()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    meterRegistry.counter("rate-limit.rejections", "route", route.name()).increment();
+    long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+    ProblemDetail detail = ProblemDetail.forStatus(HttpStatus.TOO_MANY_REQUESTS);
+    detail.setTitle("Too Many Requests");
+    detail.setDetail("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), detail);
+  }
+
+  private RateLimitProperties.Route findRoute(HttpServletRequest request) {
+    PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+    for (CompiledRoute compiled : routes) {
+      for (PathPattern pattern : compiled.patterns()) {
+        if (pattern.matches(path)) {
+          return compiled.route();
+        }
+      }
+    }
+    return null;
+  }
+
+  private record CompiledRoute(RateLimitProperties.Route route, List<PathPattern> patterns) {
+  }
+}
@@ -0,0 +1,37 @@
+package point.zzicback.common.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param enabled false 이면 필터가 아무것도 제한하지 않음
+ * @param routes  경로 그룹별 제한 (위에서부터 처음 일치하는 그룹 하나만 적용)
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(boolean enabled, List<Route> routes) {
+  public RateLimitProperties {
+    routes = routes != null ? List.copyOf(routes) : List.of();
+  }
+
+  /**
+   * @param name     버킷 키와 메트릭 태그에 쓰이는 그룹 이름
+   * @param patterns 요청 경로 패턴 (PathPattern 문법)
+   * @param capacity period 동안 허용하는 요청 수 (= 버스트 크기)
+   * @param period   버킷이 비었다가 가득 차기까지 걸리는 시간
+   */
+  public record Route(String name, List<String> patterns, long capacity, Duration period) {
+    public Route {
+      patterns = patterns != null ? List.copyOf(patterns) : List.of();
+      if (capacity <= 0 || period == null || period.isZero() || period.isNegative()) {
+        throw new IllegalArgumentException("rate-limit route '" + name + "' requires positive capacity and period");
+      }
+    }
+
+    // 토큰 하나가 다시 채워지는 간격
+    public long emissionIntervalNanos() {
+      return Math.max(1, period.toNanos() / capacity);
+    }
+  }
+}
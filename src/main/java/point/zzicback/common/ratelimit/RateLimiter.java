@@ -0,0 +1,9 @@
+package point.zzicback.common.ratelimit;
+
+/**
+ * 키별 토큰 버킷 (GCRA: 버킷 상태를 "다음 토큰이 허용되는 이론적 시각" 하나로 표현)
+ * 단일 노드는 InMemoryRateLimiter, 여러 노드가 같은 버킷을 공유해야 하면 redis 프로파일의 RedisRateLimiter 를 사용합니다.
+ */
+public interface RateLimiter {
+  RateLimitDecision tryConsume(String key, RateLimitProperties.Route route);
+}
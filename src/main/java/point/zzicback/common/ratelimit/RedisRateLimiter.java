@@ -0,0 +1,66 @@
+package point.zzicback.common.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 기반 RateLimiter 구현체
+ * 여러 노드가 같은 버킷(ratelimit:{route}:{key})을 공유하도록 버킷 갱신을 Lua 스크립트 하나로 원자적으로 처리합니다.
+ * 시각은 노드 간 시계 차이를 피하기 위해 Redis TIME 을 사용하며, Redis 장애 시에는 요청을 막지 않습니다.
+ */
+@Slf4j
+@Component
+@Profile("redis")
+@RequiredArgsConstructor
+public class RedisRateLimiter implements RateLimiter {
+  private static final String KEY_PREFIX = "ratelimit:";
+  // KEYS[1]=버킷 키, ARGV[1]=토큰 간격(µs), ARGV[2]=period(µs) / 반환: {허용 여부, 남은 토큰 또는 재시도까지 µs}
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CONSUME_SCRIPT = RedisScript.of("""
+      local time = redis.call('TIME')
+      local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+      local interval = tonumber(ARGV[1])
+      local period = tonumber(ARGV[2])
+      local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+      if tat < now then
+        tat = now
+      end
+      local next = tat + interval
+      local ahead = next - now
+      if ahead > period then
+        return {0, ahead - period}
+      end
+      redis.call('SET', KEYS[1], string.format('%d', next), 'PX', math.ceil(ahead / 1000))
+      return {1, math.floor((period - ahead) / interval)}
+      """, List.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  @Override
+  public RateLimitDecision tryConsume(String key, RateLimitProperties.Route route) {
+    long interval = Math.max(1, route.emissionIntervalNanos() / 1_000);
+    long period = route.period().toNanos() / 1_000;
+    try {
+      List<?> result = redisTemplate.execute(CONSUME_SCRIPT, List.of(KEY_PREFIX + key),
+          String.valueOf(interval), String.valueOf(period));
+      if (result == null || result.size() < 2) {
+        return RateLimitDecision.allowed(route.capacity(), route.capacity());
+      }
+      long value = ((Number) result.get(1)).longValue();
+      return ((Number) result.get(0)).longValue() == 1L
+          ? RateLimitDecision.allowed(route.capacity(), value)
+          : RateLimitDecision.rejected(route.capacity(), Duration.ofNanos(value * 1_000));
+    } catch (DataAccessException e) {
+      log.warn("Rate limit check skipped, Redis unavailable: {}", e.getMessage());
+      return RateLimitDecision.allowed(route.capacity(), route.capacity());
+    }
+  }
+}
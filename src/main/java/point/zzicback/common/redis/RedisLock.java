@@ -0,0 +1,45 @@
+package point.zzicback.common.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 여러 노드 중 한 곳에서만 작업을 실행하기 위한 Redis 락 (SET NX PX)
+ * 락을 얻지 못하면 기다리지 않고 건너뛰며, 해제는 자신이 건 락일 때만 삭제합니다.
+ */
+@Component
+@Profile("redis")
+@RequiredArgsConstructor
+public class RedisLock {
+  private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final RedisTemplate<String, String> redisTemplate;
+
+  /**
+   * @param ttl 작업이 비정상 종료되어도 락이 풀리는 시간 (작업 예상 시간보다 넉넉하게)
+   * @return 락을 얻어 작업을 실행했는지 여부
+   */
+  public boolean runExclusively(String key, Duration ttl, Runnable task) {
+    String token = UUID.randomUUID().toString();
+    if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, ttl))) {
+      return false;
+    }
+    try {
+      task.run();
+      return true;
+    } finally {
+      redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+    }
+  }
+}
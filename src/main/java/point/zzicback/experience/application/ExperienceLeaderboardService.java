@@ -0,0 +1,49 @@
+package point.zzicback.experience.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.*;
+import org.springframework.stereotype.Service;
+import point.zzicback.common.error.EntityNotFoundException;
+import point.zzicback.experience.application.dto.result.LeaderboardEntryResult;
+import point.zzicback.experience.domain.*;
+import point.zzicback.level.domain.Level;
+
+import java.util.*;
+
+/**
+ * 경험치 리더보드 조회
+ * 페이지 조회는 상위 top-k 순위까지만 제공하고, 내 순위는 순위와 무관하게 조회할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExperienceLeaderboardService {
+    private final ExperienceLeaderboard leaderboard;
+    private final ExperienceService experienceService;
+
+    @Value("${experience.leaderboard.top-k:1000}")
+    private int topK;
+
+    public Page<LeaderboardEntryResult> getLeaderboard(LeaderboardScope scope, Pageable pageable) {
+        long total = Math.min(leaderboard.count(scope), topK);
+        if (pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        int limit = (int) Math.min(pageable.getPageSize(), total - pageable.getOffset());
+        List<LeaderboardEntryResult> content = leaderboard.findPage(scope, pageable.getOffset(), limit).stream()
+                .map(this::toResult)
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    public LeaderboardEntryResult getRank(LeaderboardScope scope, UUID memberId) {
+        return leaderboard.findRank(scope, memberId)
+                .map(this::toResult)
+                .orElseThrow(() -> new EntityNotFoundException("LeaderboardEntry", memberId));
+    }
+
+    private LeaderboardEntryResult toResult(LeaderboardEntry entry) {
+        Level level = experienceService.getLevelByExperience(entry.experience());
+        return new LeaderboardEntryResult(entry.rank(), entry.memberId(), entry.experience(), level.getLevel(), level.getName());
+    }
+}
@@ -0,0 +1,127 @@
+package point.zzicback.experience.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.zzicback.experience.domain.*;
+import point.zzicback.experience.infrastructure.ExperienceOutboxRepository;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 경험치 아웃박스를 배치 단위로 비워 경험치에 반영하는 백그라운드 디스패처 (가상 스레드)
+ * poll-interval 마다 쌓인 증감을 회원별로 합쳐 JDBC 배치로 반영하고, 종료 시 남은 증감을 비웁니다.
+ * 반영 실패 시 행이 미처리 상태로 남아 다음 주기에 재시도됩니다 (at-least-once).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExperienceOutboxDispatcher implements SmartLifecycle {
+    private final ExperienceOutboxRepository outboxRepository;
+    private final ExperienceService experienceService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${experience.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${experience.outbox.poll-interval:200ms}")
+    private Duration pollInterval;
+
+    @Value("${experience.outbox.retention:1d}")
+    private Duration retention;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual().name("experience-outbox-dispatcher").start(this::dispatchLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            try {
+                worker.join(Duration.ofSeconds(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        flushPending();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 미처리 행을 한 배치 반영하고 반영한 행 수를 반환합니다.
+     * 같은 회원의 행은 적재 순서대로 (순변화량, 하한)으로 축약하여 회원당 한 번의 UPDATE로 반영하며,
+     * 0 미만으로 내려가지 않는 차감 규칙은 순서대로 적용한 것과 같게 유지됩니다.
+     */
+    public int dispatchBatch() {
+        Integer dispatched = transactionTemplate.execute(status -> {
+            List<ExperienceOutbox> batch = outboxRepository.findPendingForUpdate(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            Map<UUID, ExperienceDelta> deltas = new LinkedHashMap<>();
+            batch.forEach(entry -> deltas.merge(entry.getMemberId(), ExperienceDelta.of(entry.getDelta()), ExperienceDelta::then));
+            experienceService.applyDeltas(deltas);
+
+            List<Long> ids = batch.stream()
+                    .map(ExperienceOutbox::getId)
+                    .toList();
+            outboxRepository.markProcessed(ids, LocalDateTime.now());
+            return batch.size();
+        });
+        return dispatched != null ? dispatched : 0;
+    }
+
+    @Scheduled(cron = "${experience.outbox.purge-cron:0 30 4 * * *}")
+    public void purgeProcessed() {
+        Integer purged = transactionTemplate.execute(status ->
+                outboxRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention)));
+        log.info("Purged {} processed experience outbox entries", purged);
+    }
+
+    // 종료 시 남은 증감을 비워 재시작 전까지 반영이 지연되지 않도록 함
+    private void flushPending() {
+        try {
+            int flushed = 0;
+            int dispatched;
+            do {
+                dispatched = dispatchBatch();
+                flushed += dispatched;
+            } while (dispatched == batchSize);
+            log.info("Flushed {} pending experience outbox entries on shutdown", flushed);
+        } catch (Exception e) {
+            log.warn("Failed to flush experience outbox on shutdown: {}", e.getMessage());
+        }
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                if (dispatchBatch() < batchSize) {
+                    LockSupport.parkNanos(pollInterval.toNanos());
+                }
+            } catch (Exception e) {
+                log.error("Failed to dispatch experience outbox batch: {}", e.getMessage(), e);
+                LockSupport.parkNanos(pollInterval.toNanos());
+            }
+        }
+    }
+}
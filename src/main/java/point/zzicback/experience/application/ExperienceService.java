@@ -1,65 +1,135 @@
 package point.zzicback.experience.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import point.zzicback.experience.application.dto.result.MemberLevelResult;
-import point.zzicback.experience.domain.MemberExperience;
-import point.zzicback.experience.infrastructure.MemberExperienceRepository;
+import point.zzicback.common.error.BusinessException;
+import point.zzicback.experience.application.dto.result.*;
+import point.zzicback.experience.application.event.ExperienceChangedEvent;
+import point.zzicback.experience.domain.*;
+import point.zzicback.experience.infrastructure.*;
 import point.zzicback.level.application.LevelService;
 import point.zzicback.level.domain.Level;
 
-import java.util.UUID;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ExperienceService {
+    private static final int MAX_BATCH_LEVEL_SIZE = 200;
+
     private final MemberExperienceRepository repository;
     private final LevelService levelService;
+    private final MemberExperienceCreator memberExperienceCreator;
+    private final MemberExperienceBatchWriter batchWriter;
+    private final ExperienceOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void addExperience(UUID memberId, int amount) {
-        MemberExperience exp = repository.findByMemberId(memberId)
-                .orElseGet(() -> repository.save(MemberExperience.builder()
-                        .memberId(memberId)
-                        .experience(0)
-                        .build()));
-        exp.addExperience(amount);
+        applyDelta(memberId, amount);
     }
 
     public void subtractExperience(UUID memberId, int amount) {
-        MemberExperience exp = repository.findByMemberId(memberId)
-                .orElseGet(() -> repository.save(MemberExperience.builder()
-                        .memberId(memberId)
-                        .experience(0)
-                        .build()));
-        exp.subtractExperience(amount);
+        applyDelta(memberId, -amount);
+    }
+
+    /**
+     * 경험치를 조회 없이 원자적으로 증감합니다. 행이 없으면 생성 후 다시 반영합니다.
+     */
+    public void applyDelta(UUID memberId, int delta) {
+        if (repository.applyDelta(memberId, delta) == 0) {
+            memberExperienceCreator.createIfAbsent(memberId);
+            repository.applyDelta(memberId, delta);
+        }
+        publishChanged(List.of(memberId));
     }
 
+    /**
+     * 회원별로 축약된 증감을 JDBC 배치로 반영합니다. 행이 없는 회원은 생성 후 다시 반영합니다.
+     */
+    public void applyDeltas(Map<UUID, ExperienceDelta> deltas) {
+        List<UUID> missing = batchWriter.applyDeltas(deltas);
+        if (!missing.isEmpty()) {
+            memberExperienceCreator.createIfAbsent(missing);
+            Map<UUID, ExperienceDelta> retry = new LinkedHashMap<>();
+            missing.forEach(memberId -> retry.put(memberId, deltas.get(memberId)));
+            batchWriter.applyDeltas(retry);
+        }
+        publishChanged(deltas.keySet());
+    }
+
+    /**
+     * 반영된 경험치에 아직 아웃박스에 남아 있는 증감을 합쳐 반환합니다.
+     */
     @Transactional(readOnly = true)
     public int getExperience(UUID memberId) {
-        return repository.findByMemberId(memberId)
+        int persisted = repository.findByMemberId(memberId)
                 .map(MemberExperience::getExperience)
                 .orElse(0);
+        ExperienceDelta pending = outboxRepository.findPendingDeltas(memberId).stream()
+                .map(ExperienceDelta::of)
+                .reduce(ExperienceDelta.NONE, ExperienceDelta::then);
+        return pending.applyTo(persisted);
     }
 
     @Transactional(readOnly = true)
     public Level getCurrentLevel(UUID memberId) {
-        int experience = getExperience(memberId);
+        return getLevelByExperience(getExperience(memberId));
+    }
+
+    /**
+     * 캐시된 레벨 테이블로 경험치에 해당하는 레벨을 찾습니다 (쿼리 없음).
+     */
+    public Level getLevelByExperience(int experience) {
         Level level = levelService.getLevelByExperience(experience);
         return level != null ? level : createDefaultLevel();
-    }    @Transactional(readOnly = true)
+    }
+
+    /**
+     * 여러 회원의 레벨을 한 번에 조회합니다. 경험치와 미반영 증감을 각각 IN 쿼리 한 번으로 읽습니다.
+     * 결과는 요청한 회원 순서를 따르며 경험치 행이 없는 회원은 0으로 계산합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<MemberLevelSummaryResult> getMemberLevels(Collection<UUID> memberIds) {
+        Set<UUID> distinctIds = new LinkedHashSet<>(memberIds);
+        if (distinctIds.size() > MAX_BATCH_LEVEL_SIZE) {
+            throw new BusinessException("한 번에 조회할 수 있는 회원 수는 " + MAX_BATCH_LEVEL_SIZE + "명 이하입니다.");
+        }
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Integer> persisted = new HashMap<>();
+        repository.findByMemberIdIn(distinctIds)
+                .forEach(experience -> persisted.put(experience.getMemberId(), experience.getExperience()));
+        Map<UUID, ExperienceDelta> pending = new HashMap<>();
+        outboxRepository.findByMemberIdInAndProcessedAtIsNullOrderByIdAsc(distinctIds)
+                .forEach(entry -> pending.merge(entry.getMemberId(), ExperienceDelta.of(entry.getDelta()), ExperienceDelta::then));
+
+        return distinctIds.stream()
+                .map(memberId -> {
+                    int experience = pending.getOrDefault(memberId, ExperienceDelta.NONE)
+                            .applyTo(persisted.getOrDefault(memberId, 0));
+                    Level level = getLevelByExperience(experience);
+                    return new MemberLevelSummaryResult(memberId, level.getLevel(), level.getName(), experience);
+                })
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
     public MemberLevelResult getMemberLevel(UUID memberId) {
         int experience = getExperience(memberId);
-        Level currentLevel = getCurrentLevel(memberId);
-        
-        Level nextLevel = levelService.getNextLevel(currentLevel.getLevel());
+        Level currentLevel = getLevelByExperience(experience);
+        Level nextLevel = levelService.getNextLevelByExperience(experience);
+
         int experienceToNext = nextLevel != null ? nextLevel.getRequiredExp() - experience : 0;
-        
+
         int currentLevelProgress = experience - currentLevel.getRequiredExp();
-        int currentLevelTotal = nextLevel != null ? 
+        int currentLevelTotal = nextLevel != null ?
             nextLevel.getRequiredExp() - currentLevel.getRequiredExp() : 0;
-        
+
         return new MemberLevelResult(
                 currentLevel.getLevel(),
                 currentLevel.getName(),
@@ -71,6 +141,12 @@ public class ExperienceService {
         );
     }
 
+    // 반영 후 경험치를 다시 읽어 커밋 후 리더보드에 전달 (JPA 1차 캐시를 거치지 않는 projection 조회)
+    private void publishChanged(Collection<UUID> memberIds) {
+        List<LeaderboardScoreUpdate> scores = repository.findScoreUpdatesByMemberIdIn(memberIds);
+        eventPublisher.publishEvent(new ExperienceChangedEvent(scores));
+    }
+
     private Level createDefaultLevel() {
         return Level.builder()
                 .level(1)
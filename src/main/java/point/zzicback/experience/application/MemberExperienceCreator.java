@@ -0,0 +1,28 @@
+package point.zzicback.experience.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import point.zzicback.experience.infrastructure.MemberExperienceBatchWriter;
+
+import java.util.*;
+
+/**
+ * 경험치 행이 없는 회원의 행을 upsert로 생성합니다.
+ * 호출자 트랜잭션에 참여하므로 커넥션을 추가로 잡지 않으며, 동시 생성되어도 예외가 발생하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberExperienceCreator {
+    private final MemberExperienceBatchWriter batchWriter;
+
+    @Transactional
+    public void createIfAbsent(UUID memberId) {
+        batchWriter.insertMissing(List.of(memberId));
+    }
+
+    @Transactional
+    public void createIfAbsent(Collection<UUID> memberIds) {
+        batchWriter.insertMissing(memberIds);
+    }
+}
@@ -0,0 +1,12 @@
+package point.zzicback.experience.application.dto.result;
+
+import java.util.UUID;
+
+public record LeaderboardEntryResult(
+        long rank,
+        UUID memberId,
+        int experience,
+        int level,
+        String levelName
+) {
+}
@@ -0,0 +1,11 @@
+package point.zzicback.experience.application.dto.result;
+
+import java.util.UUID;
+
+public record MemberLevelSummaryResult(
+        UUID memberId,
+        int level,
+        String levelName,
+        int experience
+) {
+}
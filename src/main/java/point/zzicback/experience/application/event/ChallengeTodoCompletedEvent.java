@@ -5,6 +5,7 @@ import java.util.UUID;
 public record ChallengeTodoCompletedEvent(
         UUID memberId,
         Long challengeId,
-        String challengeTitle
+        String challengeTitle,
+        String idempotencyKey
 ) {
 }
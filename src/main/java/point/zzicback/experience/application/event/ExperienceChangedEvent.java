@@ -0,0 +1,11 @@
+package point.zzicback.experience.application.event;
+
+import point.zzicback.experience.domain.LeaderboardScoreUpdate;
+
+import java.util.List;
+
+/**
+ * 경험치가 반영된 회원들의 반영 후 경험치와 행 버전
+ */
+public record ExperienceChangedEvent(List<LeaderboardScoreUpdate> scores) {
+}
@@ -2,39 +2,53 @@ package point.zzicback.experience.application.event;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import point.zzicback.experience.application.ExperienceService;
-import point.zzicback.experience.domain.MemberExperience;
-import point.zzicback.experience.infrastructure.MemberExperienceRepository;
+import org.springframework.transaction.event.*;
+import point.zzicback.common.config.AsyncEventConfig;
+import point.zzicback.experience.application.MemberExperienceCreator;
+import point.zzicback.experience.infrastructure.ExperienceOutboxWriter;
 import point.zzicback.member.application.event.MemberCreatedEvent;
 
+import java.util.UUID;
+
+/**
+ * 경험치 변경은 호출자 트랜잭션 안에서 아웃박스에만 적재하고,
+ * 실제 반영은 ExperienceOutboxDispatcher가 비동기로 처리합니다.
+ * 경험치 행 생성은 가입 커밋 이후 이벤트 실행기에서 처리합니다 (행이 없으면 반영 시 생성되므로 지연 가능).
+ */
 @Component
 @RequiredArgsConstructor
 public class ExperienceEventHandler {
-    private final MemberExperienceRepository repository;
-    private final ExperienceService experienceService;
+    private static final int TODO_EXPERIENCE = 10;
+    private static final int CHALLENGE_TODO_EXPERIENCE = 20;
 
-    @EventListener
+    private final MemberExperienceCreator memberExperienceCreator;
+    private final ExperienceOutboxWriter outboxWriter;
+
+    @Async(AsyncEventConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleMemberCreated(MemberCreatedEvent event) {
-        repository.findByMemberId(event.memberId())
-                .orElseGet(() -> repository.save(MemberExperience.builder()
-                        .memberId(event.memberId())
-                        .experience(0)
-                        .build()));
+        memberExperienceCreator.createIfAbsent(event.memberId());
     }
 
     @EventListener
     public void handleTodoCompleted(TodoCompletedEvent event) {
-        experienceService.addExperience(event.memberId(), 10);
+        enqueue(event.idempotencyKey(), event.memberId(), TODO_EXPERIENCE);
     }
 
     @EventListener
     public void handleTodoUncompleted(TodoUncompletedEvent event) {
-        experienceService.subtractExperience(event.memberId(), 10);
+        enqueue(event.idempotencyKey(), event.memberId(), -TODO_EXPERIENCE);
     }
 
     @EventListener
     public void handleChallengeTodoCompleted(ChallengeTodoCompletedEvent event) {
-        experienceService.addExperience(event.memberId(), 20);
+        enqueue(event.idempotencyKey(), event.memberId(), CHALLENGE_TODO_EXPERIENCE);
+    }
+
+    // 같은 상태 전이가 중복 적재되면 건너뜀
+    private void enqueue(String idempotencyKey, UUID memberId, int delta) {
+        outboxWriter.insertIfAbsent(idempotencyKey, memberId, delta);
     }
 }
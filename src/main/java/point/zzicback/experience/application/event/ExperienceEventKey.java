@@ -0,0 +1,27 @@
+package point.zzicback.experience.application.event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 경험치 이벤트의 멱등 키 (아웃박스 idempotencyKey)
+ * 대상(투두/챌린지 투두), 목표일, 동작, 변경 전 수정 시각으로 만들어 같은 상태 전이는 항상 같은 키가 되며,
+ * 동시 요청으로 중복 적재된 행은 유니크 제약으로 걸러집니다.
+ * 완료 → 취소 → 재완료처럼 상태가 바뀐 뒤의 전이는 변경 전 수정 시각이 달라 별도 키가 됩니다.
+ */
+public final class ExperienceEventKey {
+    public static final String COMPLETED = "COMPLETED";
+    public static final String UNCOMPLETED = "UNCOMPLETED";
+
+    private ExperienceEventKey() {
+    }
+
+    /**
+     * @param previousVersion 변경 전 수정 시각 (새로 만드는 대상이면 null)
+     */
+    public static String of(String subject, LocalDate targetDate, String action, Object previousVersion) {
+        String source = subject + ":" + targetDate + ":" + action + ":" + (previousVersion != null ? previousVersion : "new");
+        return UUID.nameUUIDFromBytes(source.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -0,0 +1,47 @@
+package point.zzicback.experience.application.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.*;
+import point.zzicback.challenge.application.event.*;
+import point.zzicback.experience.application.ExperienceService;
+import point.zzicback.experience.domain.*;
+import point.zzicback.member.application.event.MemberCreatedEvent;
+
+import java.util.List;
+
+/**
+ * 커밋된 경험치 반영, 회원 가입, 챌린지 참여/탈퇴/삭제를 경험치 리더보드에 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExperienceLeaderboardEventHandler {
+    private final ExperienceLeaderboard leaderboard;
+    private final ExperienceService experienceService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleExperienceChanged(ExperienceChangedEvent event) {
+        leaderboard.updateScores(event.scores());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMemberCreated(MemberCreatedEvent event) {
+        leaderboard.updateScores(List.of(new LeaderboardScoreUpdate(event.memberId(), 0, 0)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleChallengeJoined(ChallengeJoinedEvent event) {
+        int experience = experienceService.getExperience(event.memberId());
+        leaderboard.join(event.challengeId(), new LeaderboardScore(event.memberId(), experience));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleChallengeLeft(ChallengeLeftEvent event) {
+        leaderboard.leave(event.challengeId(), event.memberId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleChallengeDeleted(ChallengeDeletedEvent event) {
+        leaderboard.removeChallenge(event.challengeId());
+    }
+}
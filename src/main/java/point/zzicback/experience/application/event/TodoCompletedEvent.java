@@ -5,6 +5,7 @@ import java.util.UUID;
 public record TodoCompletedEvent(
         UUID memberId,
         Long todoId,
-        String todoTitle
+        String todoTitle,
+        String idempotencyKey
 ) {
 }
@@ -5,6 +5,7 @@ import java.util.UUID;
 public record TodoUncompletedEvent(
         UUID memberId,
         Long todoId,
-        String todoTitle
+        String todoTitle,
+        String idempotencyKey
 ) {
 }
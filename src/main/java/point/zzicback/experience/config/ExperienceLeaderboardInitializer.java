@@ -0,0 +1,32 @@
+package point.zzicback.experience.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.*;
+import org.springframework.stereotype.Component;
+import point.zzicback.challenge.infrastructure.ChallengeParticipationRepository;
+import point.zzicback.experience.domain.*;
+import point.zzicback.experience.infrastructure.MemberExperienceRepository;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExperienceLeaderboardInitializer implements ApplicationRunner {
+    private final MemberExperienceRepository memberExperienceRepository;
+    private final ChallengeParticipationRepository participationRepository;
+    private final ExperienceLeaderboard leaderboard;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (leaderboard.isBuilt()) {
+            log.info("Experience leaderboard already built, skipping rebuild");
+            return;
+        }
+        List<LeaderboardScore> scores = memberExperienceRepository.findAllScores();
+        List<LeaderboardMembership> memberships = participationRepository.findAllActiveMemberships();
+        leaderboard.rebuild(scores, memberships);
+        log.info("Rebuilt experience leaderboard with {} members and {} challenge memberships", scores.size(), memberships.size());
+    }
+}
@@ -0,0 +1,24 @@
+package point.zzicback.experience.domain;
+
+/**
+ * 순서가 있는 경험치 증감 묶음을 (순변화량, 하한) 두 값으로 축약한 값
+ * 증감을 하나씩 적용하며 매번 0 미만을 절삭한 결과는 max(현재 경험치 + net, floor)와 같습니다.
+ * floor = net - (0을 포함한 누적합의 최솟값)
+ */
+public record ExperienceDelta(int net, int floor) {
+    public static final ExperienceDelta NONE = new ExperienceDelta(0, 0);
+
+    public static ExperienceDelta of(int delta) {
+        return new ExperienceDelta(delta, Math.max(delta, 0));
+    }
+
+    public ExperienceDelta then(ExperienceDelta next) {
+        int combinedNet = net + next.net;
+        int minPrefix = Math.min(net - floor, net + (next.net - next.floor));
+        return new ExperienceDelta(combinedNet, combinedNet - minPrefix);
+    }
+
+    public int applyTo(int experience) {
+        return Math.max(experience + net, floor);
+    }
+}
@@ -0,0 +1,22 @@
+package point.zzicback.experience.domain;
+
+import java.util.*;
+
+/**
+ * 경험치 리더보드 저장소 인터페이스 (전체 + 챌린지별 참여자)
+ * 경험치 반영/참여/탈퇴 시 증분 갱신되며, 애플리케이션 시작 시 리더보드가 없으면 DB 기준으로 재구성됩니다.
+ * 구현체는 Infrastructure 계층에서 담당
+ */
+public interface ExperienceLeaderboard {
+    /** 전체 리더보드와 회원이 참여 중인 챌린지 리더보드의 점수를 갱신 (이미 반영된 버전 이하는 무시) */
+    void updateScores(Collection<LeaderboardScoreUpdate> scores);
+    void join(Long challengeId, LeaderboardScore score);
+    void leave(Long challengeId, UUID memberId);
+    void removeChallenge(Long challengeId);
+    List<LeaderboardEntry> findPage(LeaderboardScope scope, long offset, int limit);
+    Optional<LeaderboardEntry> findRank(LeaderboardScope scope, UUID memberId);
+    long count(LeaderboardScope scope);
+    /** 재구성된 리더보드가 이미 있는지 여부 (공유 저장소는 다른 노드가 만든 것을 그대로 사용) */
+    boolean isBuilt();
+    void rebuild(Collection<LeaderboardScore> scores, Collection<LeaderboardMembership> memberships);
+}
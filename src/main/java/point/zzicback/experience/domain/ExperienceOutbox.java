@@ -0,0 +1,53 @@
+package point.zzicback.experience.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 경험치 변경 요청 아웃박스
+ * 투두 완료 트랜잭션 안에서 적재되고, 디스패처가 배치로 읽어 경험치에 반영합니다.
+ * 반영과 processedAt 기록은 같은 트랜잭션에서 이루어지므로 재전달된 행은 다시 반영되지 않습니다.
+ * idempotencyKey 는 원인이 된 상태 전이로부터 만들어지며, 같은 전이가 두 번 적재되지 않도록 유니크 제약을 둡니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "experience_outbox",
+       indexes = {
+           @Index(name = "idx_experience_outbox_processed_at", columnList = "processedAt, id"),
+           @Index(name = "idx_experience_outbox_member_pending", columnList = "memberId, processedAt")
+       })
+public class ExperienceOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private UUID memberId;
+
+    @Column(nullable = false)
+    private int delta;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    @Builder
+    public ExperienceOutbox(String idempotencyKey, UUID memberId, int delta) {
+        this.idempotencyKey = idempotencyKey;
+        this.memberId = memberId;
+        this.delta = delta;
+    }
+
+    @PrePersist
+    private void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
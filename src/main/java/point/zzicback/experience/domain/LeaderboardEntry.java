@@ -0,0 +1,9 @@
+package point.zzicback.experience.domain;
+
+import java.util.UUID;
+
+/**
+ * 동점자는 같은 순위 (rank = 1 + 나보다 경험치가 높은 회원 수)
+ */
+public record LeaderboardEntry(long rank, UUID memberId, int experience) {
+}
@@ -0,0 +1,6 @@
+package point.zzicback.experience.domain;
+
+import java.util.UUID;
+
+public record LeaderboardMembership(Long challengeId, UUID memberId) {
+}
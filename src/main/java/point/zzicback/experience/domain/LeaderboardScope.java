@@ -0,0 +1,16 @@
+package point.zzicback.experience.domain;
+
+/**
+ * 리더보드 범위: 전체(challengeId == null) 또는 챌린지 참여자 집합
+ */
+public record LeaderboardScope(Long challengeId) {
+    public static final LeaderboardScope GLOBAL = new LeaderboardScope(null);
+
+    public static LeaderboardScope challenge(Long challengeId) {
+        return new LeaderboardScope(challengeId);
+    }
+
+    public boolean isGlobal() {
+        return challengeId == null;
+    }
+}
@@ -0,0 +1,13 @@
+package point.zzicback.experience.domain;
+
+import java.util.UUID;
+
+/**
+ * 커밋된 경험치 변경을 리더보드에 반영하기 위한 점수
+ * version 은 경험치 행이 갱신될 때마다 1씩 증가하므로, 여러 노드에서 순서가 뒤바뀌어 도착해도 오래된 점수를 걸러낼 수 있습니다.
+ */
+public record LeaderboardScoreUpdate(UUID memberId, int experience, long version) {
+    public LeaderboardScore toScore() {
+        return new LeaderboardScore(memberId, experience);
+    }
+}
@@ -8,7 +8,8 @@ import java.util.UUID;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "member_experiences")
+@Table(name = "member_experiences",
+       indexes = @Index(name = "idx_member_experiences_experience", columnList = "experience"))
 public class MemberExperience {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,6 +21,10 @@ public class MemberExperience {
     @Column(nullable = false)
     private int experience;
 
+    // 경험치가 갱신될 때마다 1 증가, 리더보드가 늦게 도착한 이전 점수를 걸러내는 데 사용
+    @Column(nullable = false)
+    private long version;
+
     @Builder
     public MemberExperience(UUID memberId, int experience) {
         this.memberId = memberId;
@@ -0,0 +1,123 @@
+package point.zzicback.experience.infrastructure;
+
+import java.util.SplittableRandom;
+
+/**
+ * 경험치별 인원수를 보관하는 순서 통계 트리 (treap)
+ * 노드는 서로 다른 경험치 값마다 하나이므로 메모리는 경험치 크기가 아닌 값의 종류 수에 비례하며,
+ * 노드마다 하위 트리의 인원수를 함께 보관하여 "경험치가 더 높은 회원 수"를 O(log n)에 계산합니다.
+ * 동기화는 호출자(ExperienceRankIndex)가 담당합니다.
+ */
+final class ExperienceCountTree {
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    void add(int experience, int delta) {
+        root = add(root, experience, delta);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    // experience 보다 경험치가 높은 회원 수
+    long countAbove(int experience) {
+        long count = 0;
+        Node node = root;
+        while (node != null) {
+            if (experience < node.experience) {
+                count += node.count + size(node.right);
+                node = node.left;
+            } else if (experience > node.experience) {
+                node = node.right;
+            } else {
+                return count + size(node.right);
+            }
+        }
+        return count;
+    }
+
+    private Node add(Node node, int experience, int delta) {
+        if (node == null) {
+            return delta > 0 ? new Node(experience, delta, random.nextInt()) : null;
+        }
+        if (experience < node.experience) {
+            node.left = add(node.left, experience, delta);
+            if (node.left != null && node.left.priority > node.priority) {
+                return rotateRight(node);
+            }
+        } else if (experience > node.experience) {
+            node.right = add(node.right, experience, delta);
+            if (node.right != null && node.right.priority > node.priority) {
+                return rotateLeft(node);
+            }
+        } else {
+            node.count += delta;
+            if (node.count <= 0) {
+                return merge(node.left, node.right);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    // left 의 모든 경험치는 right 보다 작아야 함
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static long size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static final class Node {
+        private final int experience;
+        private final int priority;
+        private int count;
+        private long size;
+        private Node left;
+        private Node right;
+
+        private Node(int experience, int count, int priority) {
+            this.experience = experience;
+            this.count = count;
+            this.priority = priority;
+            this.size = count;
+        }
+
+        private void update() {
+            size = count + size(left) + size(right);
+        }
+    }
+}
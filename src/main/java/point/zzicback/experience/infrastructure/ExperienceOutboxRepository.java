@@ -0,0 +1,31 @@
+package point.zzicback.experience.infrastructure;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import point.zzicback.experience.domain.ExperienceOutbox;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+public interface ExperienceOutboxRepository extends JpaRepository<ExperienceOutbox, Long> {
+
+    // 미처리 행을 적재 순서대로 잠금 조회 (여러 노드의 디스패처가 같은 행을 중복 반영하지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM ExperienceOutbox o WHERE o.processedAt IS NULL ORDER BY o.id ASC")
+    List<ExperienceOutbox> findPendingForUpdate(Pageable pageable);
+
+    @Query("SELECT o.delta FROM ExperienceOutbox o WHERE o.memberId = :memberId AND o.processedAt IS NULL ORDER BY o.id ASC")
+    List<Integer> findPendingDeltas(@Param("memberId") UUID memberId);
+
+    List<ExperienceOutbox> findByMemberIdInAndProcessedAtIsNullOrderByIdAsc(Collection<UUID> memberIds);
+
+    @Modifying
+    @Query("UPDATE ExperienceOutbox o SET o.processedAt = :processedAt WHERE o.id IN :ids")
+    int markProcessed(@Param("ids") Collection<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("DELETE FROM ExperienceOutbox o WHERE o.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,40 @@
+package point.zzicback.experience.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import point.zzicback.common.persistence.DatabasePlatform;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 아웃박스 행을 멱등 키 기준으로 한 번만 적재합니다.
+ * 이미 적재된 키는 예외 없이 건너뛰므로 중복 요청이 호출자 트랜잭션을 실패시키지 않습니다.
+ * PostgreSQL은 ON CONFLICT DO NOTHING, 개발용 H2는 MERGE를 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExperienceOutboxWriter {
+    private static final String POSTGRES_INSERT_SQL =
+            "INSERT INTO experience_outbox (idempotency_key, member_id, delta, created_at) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (idempotency_key) DO NOTHING";
+
+    private static final String H2_INSERT_SQL =
+            "MERGE INTO experience_outbox t " +
+            "USING (SELECT CAST(? AS VARCHAR(36)) AS idempotency_key) s ON t.idempotency_key = s.idempotency_key " +
+            "WHEN NOT MATCHED THEN INSERT (idempotency_key, member_id, delta, created_at) " +
+            "VALUES (s.idempotency_key, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    /**
+     * @return 새로 적재되었는지 여부 (이미 같은 키가 있으면 false)
+     */
+    public boolean insertIfAbsent(String idempotencyKey, UUID memberId, int delta) {
+        return jdbcTemplate.update(databasePlatform.isPostgres() ? POSTGRES_INSERT_SQL : H2_INSERT_SQL,
+                idempotencyKey, memberId, delta, Timestamp.valueOf(LocalDateTime.now())) > 0;
+    }
+}
@@ -0,0 +1,122 @@
+package point.zzicback.experience.infrastructure;
+
+import point.zzicback.experience.domain.*;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 단일 리더보드의 순위 인덱스
+ * 정렬된 트리로 페이지를 순회하고, 경험치별 인원수 트리(ExperienceCountTree)로 "나보다 높은 회원 수"를 O(log n)에 계산합니다.
+ * 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 ReentrantLock 을 사용합니다.
+ */
+final class ExperienceRankIndex {
+    private static final Comparator<LeaderboardScore> RANK_ORDER = Comparator
+            .comparingInt(LeaderboardScore::experience).reversed()
+            .thenComparing(LeaderboardScore::memberId);
+
+    private final Map<UUID, LeaderboardScore> scores = new HashMap<>();
+    private final TreeSet<LeaderboardScore> ordered = new TreeSet<>(RANK_ORDER);
+    private final ExperienceCountTree counts = new ExperienceCountTree();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    void put(LeaderboardScore score) {
+        lock.lock();
+        try {
+            LeaderboardScore previous = scores.put(score.memberId(), score);
+            if (previous != null) {
+                ordered.remove(previous);
+                counts.add(previous.experience(), -1);
+            }
+            ordered.add(score);
+            counts.add(score.experience(), 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(UUID memberId) {
+        lock.lock();
+        try {
+            LeaderboardScore previous = scores.remove(memberId);
+            if (previous != null) {
+                ordered.remove(previous);
+                counts.add(previous.experience(), -1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            scores.clear();
+            ordered.clear();
+            counts.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean contains(UUID memberId) {
+        lock.lock();
+        try {
+            return scores.containsKey(memberId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Optional<LeaderboardEntry> rank(UUID memberId) {
+        lock.lock();
+        try {
+            LeaderboardScore score = scores.get(memberId);
+            if (score == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new LeaderboardEntry(counts.countAbove(score.experience()) + 1, memberId, score.experience()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<LeaderboardEntry> page(long offset, int limit) {
+        lock.lock();
+        try {
+            List<LeaderboardEntry> page = new ArrayList<>(limit);
+            long position = 0;
+            LeaderboardEntry previous = null;
+            for (LeaderboardScore score : ordered) {
+                if (position++ < offset) {
+                    continue;
+                }
+                if (page.size() == limit) {
+                    break;
+                }
+                long rank;
+                if (previous == null) {
+                    rank = counts.countAbove(score.experience()) + 1;
+                } else if (previous.experience() == score.experience()) {
+                    rank = previous.rank();
+                } else {
+                    rank = position;
+                }
+                previous = new LeaderboardEntry(rank, score.memberId(), score.experience());
+                page.add(previous);
+            }
+            return page;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package point.zzicback.experience.infrastructure;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import point.zzicback.experience.domain.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * InMemory 기반 ExperienceLeaderboard 구현체
+ * 리더보드마다 ExperienceRankIndex를 두어 갱신/내 순위 조회는 O(log n), 페이지 조회는 O(offset + pageSize)로 처리합니다.
+ */
+@Repository
+@Profile("!redis")
+public class InMemoryExperienceLeaderboard implements ExperienceLeaderboard {
+    private final ExperienceRankIndex global = new ExperienceRankIndex();
+    private final ConcurrentMap<Long, ExperienceRankIndex> challenges = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, Set<Long>> memberChallenges = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, Long> versions = new ConcurrentHashMap<>();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile boolean built;
+
+    @Override
+    public void updateScores(Collection<LeaderboardScoreUpdate> scores) {
+        for (LeaderboardScoreUpdate update : scores) {
+            // 버전 확인과 반영을 회원 단위로 원자적으로 처리하여 늦게 도착한 이전 점수가 덮어쓰지 않도록 함
+            versions.compute(update.memberId(), (id, current) -> {
+                if (current != null && current >= update.version()) {
+                    return current;
+                }
+                apply(update.toScore());
+                return update.version();
+            });
+        }
+    }
+
+    @Override
+    public void join(Long challengeId, LeaderboardScore score) {
+        // 비어서 제거되는 인덱스와 엇갈리지 않도록 맵의 compute 안에서 갱신
+        memberChallenges.compute(score.memberId(), (id, joined) -> {
+            Set<Long> target = joined != null ? joined : ConcurrentHashMap.newKeySet();
+            target.add(challengeId);
+            return target;
+        });
+        challenges.compute(challengeId, (id, index) -> {
+            ExperienceRankIndex target = index != null ? index : new ExperienceRankIndex();
+            target.put(score);
+            return target;
+        });
+    }
+
+    @Override
+    public void leave(Long challengeId, UUID memberId) {
+        // 참여자가 없는 챌린지의 인덱스는 제거
+        challenges.computeIfPresent(challengeId, (id, index) -> {
+            index.remove(memberId);
+            return index.size() == 0 ? null : index;
+        });
+        memberChallenges.computeIfPresent(memberId, (id, joined) -> {
+            joined.remove(challengeId);
+            return joined.isEmpty() ? null : joined;
+        });
+    }
+
+    @Override
+    public void removeChallenge(Long challengeId) {
+        challenges.remove(challengeId);
+        memberChallenges.values().forEach(joined -> joined.remove(challengeId));
+    }
+
+    @Override
+    public List<LeaderboardEntry> findPage(LeaderboardScope scope, long offset, int limit) {
+        ExperienceRankIndex index = indexOf(scope);
+        return index != null ? index.page(offset, limit) : List.of();
+    }
+
+    @Override
+    public Optional<LeaderboardEntry> findRank(LeaderboardScope scope, UUID memberId) {
+        ExperienceRankIndex index = indexOf(scope);
+        return index != null ? index.rank(memberId) : Optional.empty();
+    }
+
+    @Override
+    public long count(LeaderboardScope scope) {
+        ExperienceRankIndex index = indexOf(scope);
+        return index != null ? index.size() : 0;
+    }
+
+    @Override
+    public boolean isBuilt() {
+        return built;
+    }
+
+    @Override
+    public void rebuild(Collection<LeaderboardScore> scores, Collection<LeaderboardMembership> memberships) {
+        rebuildLock.lock();
+        try {
+            global.clear();
+            challenges.clear();
+            memberChallenges.clear();
+            versions.clear();
+            scores.forEach(global::put);
+
+            Map<UUID, Integer> experiences = new HashMap<>();
+            scores.forEach(score -> experiences.put(score.memberId(), score.experience()));
+            memberships.forEach(membership -> join(membership.challengeId(),
+                    new LeaderboardScore(membership.memberId(), experiences.getOrDefault(membership.memberId(), 0))));
+            built = true;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void apply(LeaderboardScore score) {
+        global.put(score);
+        memberChallenges.getOrDefault(score.memberId(), Set.of()).forEach(challengeId -> {
+            ExperienceRankIndex index = challenges.get(challengeId);
+            if (index != null && index.contains(score.memberId())) {
+                index.put(score);
+            }
+        });
+    }
+
+    private ExperienceRankIndex indexOf(LeaderboardScope scope) {
+        return scope.isGlobal() ? global : challenges.get(scope.challengeId());
+    }
+}
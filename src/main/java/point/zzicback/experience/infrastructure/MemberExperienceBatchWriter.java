@@ -0,0 +1,84 @@
+package point.zzicback.experience.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import point.zzicback.common.persistence.DatabasePlatform;
+import point.zzicback.experience.domain.ExperienceDelta;
+
+import java.util.*;
+
+/**
+ * 회원별로 축약된 경험치 증감을 JDBC 배치 UPDATE 한 번으로 반영합니다.
+ * 경험치 행 생성도 호출자 트랜잭션 안에서 upsert로 처리하여 별도 커넥션을 쓰지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberExperienceBatchWriter {
+    private static final String APPLY_DELTA_SQL =
+            "UPDATE member_experiences SET experience = " +
+            "CASE WHEN experience + ? < ? THEN ? ELSE experience + ? END, " +
+            "version = version + 1 " +
+            "WHERE member_id = ?";
+
+    private static final String POSTGRES_INSERT_MISSING_SQL =
+            "INSERT INTO member_experiences (member_id, experience, version) VALUES (?, 0, 0) " +
+            "ON CONFLICT (member_id) DO NOTHING";
+
+    private static final String H2_INSERT_MISSING_SQL =
+            "MERGE INTO member_experiences t " +
+            "USING (SELECT CAST(? AS UUID) AS member_id) s ON t.member_id = s.member_id " +
+            "WHEN NOT MATCHED THEN INSERT (member_id, experience, version) VALUES (s.member_id, 0, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    /**
+     * @return 경험치 행이 없어 반영되지 않은 회원 ID 목록
+     */
+    public List<UUID> applyDeltas(Map<UUID, ExperienceDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> memberIds = new ArrayList<>(deltas.keySet());
+        int[][] results = jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, memberIds, memberIds.size(), (ps, memberId) -> {
+            ExperienceDelta delta = deltas.get(memberId);
+            ps.setInt(1, delta.net());
+            ps.setInt(2, delta.floor());
+            ps.setInt(3, delta.floor());
+            ps.setInt(4, delta.net());
+            ps.setObject(5, memberId);
+        });
+
+        List<UUID> missing = new ArrayList<>();
+        int[] counts = results.length > 0 ? results[0] : new int[0];
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                missing.add(memberIds.get(i));
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * 경험치 행이 없는 회원의 행을 0으로 생성합니다. 이미 있으면 건너뜁니다.
+     */
+    public void insertMissing(Collection<UUID> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        if (databasePlatform.isPostgres()) {
+            jdbcTemplate.batchUpdate(POSTGRES_INSERT_MISSING_SQL, memberIds, memberIds.size(),
+                    (ps, memberId) -> ps.setObject(1, memberId));
+            return;
+        }
+        for (UUID memberId : memberIds) {
+            try {
+                jdbcTemplate.update(H2_INSERT_MISSING_SQL, memberId);
+            } catch (DuplicateKeyException e) {
+                // H2 MERGE 는 동시 생성을 막지 못하므로 먼저 생성된 경우 무시 (H2 는 실패한 문장만 롤백)
+            }
+        }
+    }
+}
@@ -1,10 +1,28 @@
 package point.zzicback.experience.infrastructure;
 
-import org.springframework.data.jpa.repository.JpaRepository;
-import point.zzicback.experience.domain.MemberExperience;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import point.zzicback.experience.domain.*;
 
 import java.util.*;
 
 public interface MemberExperienceRepository extends JpaRepository<MemberExperience, Long> {
     Optional<MemberExperience> findByMemberId(UUID memberId);
+
+    List<MemberExperience> findByMemberIdIn(Collection<UUID> memberIds);
+
+    @Query("SELECT new point.zzicback.experience.domain.LeaderboardScore(e.memberId, e.experience) FROM MemberExperience e")
+    List<LeaderboardScore> findAllScores();
+
+    @Query("SELECT new point.zzicback.experience.domain.LeaderboardScoreUpdate(e.memberId, e.experience, e.version) " +
+           "FROM MemberExperience e WHERE e.memberId IN :memberIds")
+    List<LeaderboardScoreUpdate> findScoreUpdatesByMemberIdIn(@Param("memberIds") Collection<UUID> memberIds);
+
+    // 조회 없이 원자적으로 경험치를 증감 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE MemberExperience e SET e.experience = " +
+           "CASE WHEN e.experience + :delta < 0 THEN 0 ELSE e.experience + :delta END, " +
+           "e.version = e.version + 1 " +
+           "WHERE e.memberId = :memberId")
+    int applyDelta(@Param("memberId") UUID memberId, @Param("delta") int delta);
 }
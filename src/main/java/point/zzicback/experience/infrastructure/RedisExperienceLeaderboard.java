@@ -0,0 +1,228 @@
+package point.zzicback.experience.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.*;
+import org.springframework.stereotype.Repository;
+import point.zzicback.common.redis.RedisLock;
+import point.zzicback.experience.domain.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis sorted set 기반 ExperienceLeaderboard 구현체
+ * 리더보드마다 sorted set (점수 = 경험치)을 두고, 회원별 참여 챌린지는 set으로 관리합니다.
+ * 내 순위는 ZCOUNT(내 경험치 초과 구간) + 1 로 O(log n)에 계산합니다.
+ * 점수 갱신은 회원별 경험치 행 버전을 함께 저장하고 더 높은 버전만 반영하므로, 노드 간 커밋 순서와 무관하게 최신 점수가 남습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Profile("redis")
+public class RedisExperienceLeaderboard implements ExperienceLeaderboard {
+    private static final String GLOBAL_KEY = "experience:leaderboard:global";
+    private static final String CHALLENGE_KEY_PREFIX = "experience:leaderboard:challenge:";
+    private static final String MEMBER_CHALLENGES_KEY_PREFIX = "experience:leaderboard:member:";
+    private static final String VERSION_KEY = "experience:leaderboard:version";
+    private static final String SCORE_VERSIONS_KEY = "experience:leaderboard:score-versions";
+    private static final String REBUILD_KEY_PREFIX = "experience:leaderboard:rebuild:";
+    private static final String REBUILD_LOCK_KEY = "experience:leaderboard:rebuild-lock";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(5);
+    private static final int SCAN_COUNT = 500;
+
+    // KEYS: 전체 리더보드, 회원별 점수 버전, 회원의 참여 챌린지 / ARGV: 회원, 경험치, 버전, 챌린지 리더보드 키 접두사
+    // 챌린지 리더보드 키는 참여 목록에서 만들어지므로 단일 Redis 노드를 전제로 함
+    private static final byte[] UPDATE_SCORE_SCRIPT = """
+            local current = redis.call('HGET', KEYS[2], ARGV[1])
+            if current and tonumber(current) >= tonumber(ARGV[3]) then
+              return 0
+            end
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            for _, challengeId in ipairs(redis.call('SMEMBERS', KEYS[3])) do
+              redis.call('ZADD', ARGV[4] .. challengeId, ARGV[2], ARGV[1])
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLock redisLock;
+
+    /**
+     * 회원마다 스크립트 한 번으로 버전 확인과 전체/챌린지 리더보드 갱신을 처리하고, 배치 전체를 파이프라인으로 한 번에 전송합니다.
+     * 파이프라인에서는 EVALSHA 실패 시 재시도할 수 없으므로 EVAL 을 사용합니다.
+     */
+    @Override
+    public void updateScores(Collection<LeaderboardScoreUpdate> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        byte[] globalKey = bytes(GLOBAL_KEY);
+        byte[] versionsKey = bytes(SCORE_VERSIONS_KEY);
+        byte[] challengeKeyPrefix = bytes(CHALLENGE_KEY_PREFIX);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (LeaderboardScoreUpdate score : scores) {
+                connection.scriptingCommands().eval(UPDATE_SCORE_SCRIPT, ReturnType.INTEGER, 3,
+                        globalKey, versionsKey, bytes(memberChallengesKey(score.memberId())),
+                        bytes(score.memberId().toString()),
+                        bytes(String.valueOf(score.experience())),
+                        bytes(String.valueOf(score.version())),
+                        challengeKeyPrefix);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void join(Long challengeId, LeaderboardScore score) {
+        redisTemplate.opsForSet().add(memberChallengesKey(score.memberId()), challengeId.toString());
+        redisTemplate.opsForZSet().add(challengeKey(challengeId), score.memberId().toString(), score.experience());
+    }
+
+    @Override
+    public void leave(Long challengeId, UUID memberId) {
+        redisTemplate.opsForZSet().remove(challengeKey(challengeId), memberId.toString());
+        redisTemplate.opsForSet().remove(memberChallengesKey(memberId), challengeId.toString());
+    }
+
+    @Override
+    public void removeChallenge(Long challengeId) {
+        Set<String> members = redisTemplate.opsForZSet().range(challengeKey(challengeId), 0, -1);
+        if (members != null) {
+            members.forEach(member -> redisTemplate.opsForSet()
+                    .remove(MEMBER_CHALLENGES_KEY_PREFIX + member + ":challenges", challengeId.toString()));
+        }
+        redisTemplate.delete(challengeKey(challengeId));
+    }
+
+    @Override
+    public List<LeaderboardEntry> findPage(LeaderboardScope scope, long offset, int limit) {
+        String key = keyOf(scope);
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key, offset, offset + limit - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<LeaderboardEntry> page = new ArrayList<>(tuples.size());
+        long position = offset;
+        LeaderboardEntry previous = null;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            position++;
+            int experience = tuple.getScore() != null ? tuple.getScore().intValue() : 0;
+            long rank;
+            if (previous == null) {
+                rank = countAbove(key, experience) + 1;
+            } else if (previous.experience() == experience) {
+                rank = previous.rank();
+            } else {
+                rank = position;
+            }
+            previous = new LeaderboardEntry(rank, UUID.fromString(tuple.getValue()), experience);
+            page.add(previous);
+        }
+        return page;
+    }
+
+    @Override
+    public Optional<LeaderboardEntry> findRank(LeaderboardScope scope, UUID memberId) {
+        String key = keyOf(scope);
+        Double score = redisTemplate.opsForZSet().score(key, memberId.toString());
+        if (score == null) {
+            return Optional.empty();
+        }
+        int experience = score.intValue();
+        return Optional.of(new LeaderboardEntry(countAbove(key, experience) + 1, memberId, experience));
+    }
+
+    @Override
+    public long count(LeaderboardScope scope) {
+        Long size = redisTemplate.opsForZSet().zCard(keyOf(scope));
+        return size != null ? size : 0;
+    }
+
+    @Override
+    public boolean isBuilt() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(VERSION_KEY));
+    }
+
+    /**
+     * 다른 노드가 재구성 중이면 건너뜁니다.
+     * 버전별 임시 키에 모두 쌓은 뒤 키마다 RENAME 으로 교체하므로 조회 중인 리더보드가 비는 구간이 없고,
+     * 재구성에 포함되지 않은 기존 키(삭제된 챌린지 등)는 SCAN 으로 찾아 지웁니다.
+     */
+    @Override
+    public void rebuild(Collection<LeaderboardScore> scores, Collection<LeaderboardMembership> memberships) {
+        redisLock.runExclusively(REBUILD_LOCK_KEY, REBUILD_LOCK_TTL, () -> {
+            deleteMatching(REBUILD_KEY_PREFIX + "*", Set.of());
+            String version = String.valueOf(System.currentTimeMillis());
+            String tempPrefix = REBUILD_KEY_PREFIX + version + ":";
+
+            Map<String, Set<ZSetOperations.TypedTuple<String>>> boards = new HashMap<>();
+            Map<String, Set<String>> memberChallenges = new HashMap<>();
+            Map<UUID, Integer> experiences = new HashMap<>();
+            scores.forEach(score -> {
+                experiences.put(score.memberId(), score.experience());
+                boards.computeIfAbsent(GLOBAL_KEY, key -> new HashSet<>())
+                        .add(ZSetOperations.TypedTuple.of(score.memberId().toString(), (double) score.experience()));
+            });
+            memberships.forEach(membership -> {
+                boards.computeIfAbsent(challengeKey(membership.challengeId()), key -> new HashSet<>())
+                        .add(ZSetOperations.TypedTuple.of(membership.memberId().toString(),
+                                (double) experiences.getOrDefault(membership.memberId(), 0)));
+                memberChallenges.computeIfAbsent(memberChallengesKey(membership.memberId()), key -> new HashSet<>())
+                        .add(membership.challengeId().toString());
+            });
+
+            boards.forEach((key, tuples) -> redisTemplate.opsForZSet().add(tempPrefix + key, tuples));
+            memberChallenges.forEach((key, challengeIds) ->
+                    redisTemplate.opsForSet().add(tempPrefix + key, challengeIds.toArray(String[]::new)));
+
+            Set<String> liveKeys = new HashSet<>(boards.keySet());
+            liveKeys.addAll(memberChallenges.keySet());
+            liveKeys.forEach(key -> redisTemplate.rename(tempPrefix + key, key));
+            if (!boards.containsKey(GLOBAL_KEY)) {
+                redisTemplate.delete(GLOBAL_KEY);
+            }
+            deleteMatching(CHALLENGE_KEY_PREFIX + "*", liveKeys);
+            deleteMatching(MEMBER_CHALLENGES_KEY_PREFIX + "*", liveKeys);
+            redisTemplate.opsForValue().set(VERSION_KEY, version);
+        });
+    }
+
+    private void deleteMatching(String pattern, Set<String> retained) {
+        List<String> stale = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build())) {
+            cursor.forEachRemaining(key -> {
+                if (!retained.contains(key)) {
+                    stale.add(key);
+                }
+            });
+        }
+        if (!stale.isEmpty()) {
+            redisTemplate.delete(stale);
+        }
+    }
+
+    private long countAbove(String key, int experience) {
+        Long count = redisTemplate.opsForZSet().count(key, experience + 1, Double.POSITIVE_INFINITY);
+        return count != null ? count : 0;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String keyOf(LeaderboardScope scope) {
+        return scope.isGlobal() ? GLOBAL_KEY : challengeKey(scope.challengeId());
+    }
+
+    private String challengeKey(Long challengeId) {
+        return CHALLENGE_KEY_PREFIX + challengeId;
+    }
+
+    private String memberChallengesKey(UUID memberId) {
+        return MEMBER_CHALLENGES_KEY_PREFIX + memberId + ":challenges";
+    }
+}
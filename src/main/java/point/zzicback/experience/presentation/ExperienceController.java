@@ -6,10 +6,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import point.zzicback.experience.application.ExperienceService;
-import point.zzicback.experience.presentation.dto.response.MemberLevelResponse;
+import point.zzicback.experience.presentation.dto.response.*;
 import point.zzicback.experience.presentation.mapper.ExperiencePresentationMapper;
 
-import java.util.UUID;
+import java.util.*;
 
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 
@@ -29,4 +29,13 @@ public class ExperienceController {
         var result = experienceService.getMemberLevel(memberId);
         return mapper.toResponse(result);
     }
+
+    @Operation(summary = "회원 레벨 일괄 조회", description = "여러 회원의 레벨/경험치를 한 번에 조회합니다. (최대 200명)")
+    @ApiResponse(responseCode = "200", description = "레벨/경험치 일괄 조회 성공")
+    @GetMapping("/levels")
+    public List<MemberLevelSummaryResponse> getMemberLevels(@RequestParam List<UUID> memberIds) {
+        return experienceService.getMemberLevels(memberIds).stream()
+                .map(mapper::toResponse)
+                .toList();
+    }
 }
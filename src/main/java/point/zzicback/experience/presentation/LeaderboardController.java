@@ -0,0 +1,61 @@
+package point.zzicback.experience.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.*;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import point.zzicback.auth.domain.MemberPrincipal;
+import point.zzicback.experience.application.ExperienceLeaderboardService;
+import point.zzicback.experience.domain.LeaderboardScope;
+import point.zzicback.experience.presentation.dto.response.LeaderboardEntryResponse;
+import point.zzicback.experience.presentation.mapper.ExperiencePresentationMapper;
+
+@Tag(name = "리더보드", description = "경험치 리더보드 관련 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/leaderboards")
+public class LeaderboardController {
+
+    private final ExperienceLeaderboardService leaderboardService;
+    private final ExperiencePresentationMapper mapper;
+
+    @Operation(summary = "전체 경험치 리더보드 조회", description = "전체 회원의 경험치 순위를 페이지 단위로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "리더보드 조회 성공")
+    @GetMapping("/experience")
+    public Page<LeaderboardEntryResponse> getGlobalLeaderboard(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return leaderboardService.getLeaderboard(LeaderboardScope.GLOBAL, PageRequest.of(page, size))
+                .map(mapper::toResponse);
+    }
+
+    @Operation(summary = "전체 경험치 내 순위 조회", description = "전체 리더보드에서 내 순위를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "내 순위 조회 성공")
+    @GetMapping("/experience/me")
+    public LeaderboardEntryResponse getMyGlobalRank(@AuthenticationPrincipal MemberPrincipal principal) {
+        return mapper.toResponse(leaderboardService.getRank(LeaderboardScope.GLOBAL, principal.id()));
+    }
+
+    @Operation(summary = "챌린지 경험치 리더보드 조회", description = "챌린지 참여자의 경험치 순위를 페이지 단위로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "리더보드 조회 성공")
+    @GetMapping("/challenges/{challengeId}")
+    public Page<LeaderboardEntryResponse> getChallengeLeaderboard(
+            @PathVariable Long challengeId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return leaderboardService.getLeaderboard(LeaderboardScope.challenge(challengeId), PageRequest.of(page, size))
+                .map(mapper::toResponse);
+    }
+
+    @Operation(summary = "챌린지 경험치 내 순위 조회", description = "챌린지 리더보드에서 내 순위를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "내 순위 조회 성공")
+    @GetMapping("/challenges/{challengeId}/me")
+    public LeaderboardEntryResponse getMyChallengeRank(
+            @PathVariable Long challengeId,
+            @AuthenticationPrincipal MemberPrincipal principal) {
+        return mapper.toResponse(leaderboardService.getRank(LeaderboardScope.challenge(challengeId), principal.id()));
+    }
+}
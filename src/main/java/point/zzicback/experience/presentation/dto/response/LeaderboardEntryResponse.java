@@ -0,0 +1,24 @@
+package point.zzicback.experience.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "경험치 리더보드 항목 응답 DTO")
+public record LeaderboardEntryResponse(
+        @Schema(description = "순위 (동점자는 같은 순위)", example = "1")
+        long rank,
+
+        @Schema(description = "회원 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        UUID memberId,
+
+        @Schema(description = "현재 보유 경험치", example = "850")
+        int experience,
+
+        @Schema(description = "현재 레벨", example = "5")
+        int level,
+
+        @Schema(description = "레벨명", example = "나무늘보")
+        String levelName
+) {
+}
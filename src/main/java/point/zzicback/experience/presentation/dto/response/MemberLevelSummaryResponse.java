@@ -0,0 +1,21 @@
+package point.zzicback.experience.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "회원 레벨 요약 응답 DTO")
+public record MemberLevelSummaryResponse(
+        @Schema(description = "회원 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        UUID memberId,
+
+        @Schema(description = "현재 레벨", example = "5")
+        int level,
+
+        @Schema(description = "레벨명", example = "나무늘보")
+        String levelName,
+
+        @Schema(description = "현재 보유 경험치", example = "850")
+        int experience
+) {
+}
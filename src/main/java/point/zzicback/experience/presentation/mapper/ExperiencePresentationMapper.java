@@ -2,8 +2,8 @@ package point.zzicback.experience.presentation.mapper;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import point.zzicback.experience.application.dto.result.MemberLevelResult;
-import point.zzicback.experience.presentation.dto.response.MemberLevelResponse;
+import point.zzicback.experience.application.dto.result.*;
+import point.zzicback.experience.presentation.dto.response.*;
 
 @Mapper(componentModel = "spring")
 public interface ExperiencePresentationMapper {
@@ -11,4 +11,8 @@ public interface ExperiencePresentationMapper {
     @Mapping(target = "currentExp", source = "currentExp")
     @Mapping(target = "currentLevelMinExp", source = "currentLevelMinExp")
     MemberLevelResponse toResponse(MemberLevelResult result);
+
+    MemberLevelSummaryResponse toResponse(MemberLevelSummaryResult result);
+
+    LeaderboardEntryResponse toResponse(LeaderboardEntryResult result);
 }
@@ -1,25 +1,48 @@
 package point.zzicback.level.application;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import point.zzicback.level.domain.Level;
+import point.zzicback.level.domain.*;
 import point.zzicback.level.infrastructure.LevelRepository;
 
+/**
+ * 레벨 테이블은 첫 조회 시 한 번 적재하고, 레벨이 변경되면 ({@code LevelsChangedEvent}) 다시 적재합니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class LevelService {
     private final LevelRepository levelRepository;
 
+    private volatile LevelTable levelTable;
+
     public Level getLevelByExperience(int experience) {
-        return levelRepository.findAll().stream()
-                .filter(l -> experience >= l.getRequiredExp())
-                .max(java.util.Comparator.comparingInt(Level::getRequiredExp))
-                .orElse(null);
+        return table().levelFor(experience);
+    }
+
+    public Level getNextLevelByExperience(int experience) {
+        return table().nextLevelFor(experience);
     }
 
     public Level getNextLevel(int currentLevel) {
-        return levelRepository.findById(currentLevel + 1).orElse(null);
+        return table().nextLevelOf(currentLevel);
+    }
+
+    public void reload() {
+        LevelTable loaded = LevelTable.of(levelRepository.findAll());
+        levelTable = loaded;
+        log.info("Loaded {} levels", loaded.size());
+    }
+
+    private LevelTable table() {
+        LevelTable current = levelTable;
+        if (current == null) {
+            reload();
+            current = levelTable;
+        }
+        return current;
     }
 }
@@ -0,0 +1,17 @@
+package point.zzicback.level.application.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import point.zzicback.level.application.LevelService;
+
+@Component
+@RequiredArgsConstructor
+public class LevelEventHandler {
+    private final LevelService levelService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleLevelsChanged(LevelsChangedEvent event) {
+        levelService.reload();
+    }
+}
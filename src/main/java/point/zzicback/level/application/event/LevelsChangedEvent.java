@@ -0,0 +1,4 @@
+package point.zzicback.level.application.event;
+
+public record LevelsChangedEvent() {
+}
@@ -3,7 +3,9 @@ package point.zzicback.level.config;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import point.zzicback.level.application.event.LevelsChangedEvent;
 import point.zzicback.level.domain.Level;
 import point.zzicback.level.infrastructure.LevelRepository;
 
@@ -14,6 +16,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class LevelInitializer implements ApplicationRunner {
     private final LevelRepository levelRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void run(ApplicationArguments args) {
@@ -44,6 +47,7 @@ public class LevelInitializer implements ApplicationRunner {
                 new Level(20, "찍찍 레전드", 10450)
         );
         levelRepository.saveAll(levels);
+        eventPublisher.publishEvent(new LevelsChangedEvent());
         log.info("Initialized {} levels", levels.size());
     }
 }
@@ -0,0 +1,63 @@
+package point.zzicback.level.domain;
+
+import java.util.*;
+
+/**
+ * 요구 경험치 순으로 정렬된 불변 레벨 테이블
+ * 현재/다음 레벨은 요구 경험치 배열에 대한 이진 탐색으로 찾습니다.
+ */
+public final class LevelTable {
+    private final Level[] levels;
+    private final int[] requiredExps;
+    private final int[] levelNumbers;
+
+    private LevelTable(List<Level> sortedLevels) {
+        this.levels = sortedLevels.toArray(Level[]::new);
+        this.requiredExps = sortedLevels.stream().mapToInt(Level::getRequiredExp).toArray();
+        this.levelNumbers = sortedLevels.stream().mapToInt(Level::getLevel).toArray();
+    }
+
+    public static LevelTable of(Collection<Level> levels) {
+        List<Level> sorted = levels.stream()
+                .sorted(Comparator.comparingInt(Level::getRequiredExp).thenComparing(Level::getLevel))
+                .toList();
+        return new LevelTable(sorted);
+    }
+
+    public Level levelFor(int experience) {
+        int index = indexFor(experience);
+        return index >= 0 ? levels[index] : null;
+    }
+
+    public Level nextLevelFor(int experience) {
+        int index = indexFor(experience) + 1;
+        return index < levels.length ? levels[index] : null;
+    }
+
+    /**
+     * 레벨 번호 기준 다음 레벨 (레벨 번호는 요구 경험치와 같은 순서로 증가)
+     */
+    public Level nextLevelOf(int level) {
+        int index = Arrays.binarySearch(levelNumbers, level + 1);
+        return index >= 0 ? levels[index] : null;
+    }
+
+    public int size() {
+        return levels.length;
+    }
+
+    // requiredExp <= experience 인 마지막 인덱스, 없으면 -1
+    private int indexFor(int experience) {
+        int low = 0;
+        int high = requiredExps.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (requiredExps[mid] <= experience) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+}
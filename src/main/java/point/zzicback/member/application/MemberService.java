@@ -10,6 +10,7 @@ import point.zzicback.member.application.dto.command.*;
 import point.zzicback.member.application.dto.result.MemberResult;
 import point.zzicback.member.application.event.MemberCreatedEvent;
 import point.zzicback.member.domain.Member;
+import point.zzicback.member.infrastructure.cache.MemberCache;
 import point.zzicback.member.infrastructure.persistence.MemberRepository;
 
 import java.util.*;
@@ -21,6 +22,7 @@ public class MemberService {
   private static final String MEMBER_ENTITY = "Member";
   private final MemberRepository memberRepository;
   private final ApplicationEventPublisher eventPublisher;
+  private final MemberCache memberCache;
 
   public Member createMember(CreateMemberCommand command) {
     Member member = Member.builder()
@@ -58,16 +60,26 @@ public class MemberService {
     return memberRepository.findById(memberId);
   }
 
+  /**
+   * 요청 단위 identity map 과 짧은 TTL 캐시를 거쳐 조회합니다 (읽기 전용 용도).
+   */
   @Transactional(readOnly = true)
   public Member findByIdOrThrow(UUID memberId) {
-    return memberRepository.findById(memberId)
+    return memberCache.get(memberId, memberRepository::findById)
         .orElseThrow(() -> new EntityNotFoundException(MEMBER_ENTITY, memberId));
   }
 
   @Transactional(readOnly = true)
   public Member findVerifiedMember(UUID memberId) {
-    return memberRepository.findById(memberId)
-        .orElseThrow(() -> new EntityNotFoundException(MEMBER_ENTITY, memberId));
+    return findByIdOrThrow(memberId);
+  }
+
+  /**
+   * 외래 키 지정용 프록시를 반환합니다 (SELECT 없음).
+   * 존재 여부를 확인하지 않으므로 인증된 회원 ID 처럼 이미 검증된 ID 에만 사용합니다.
+   */
+  public Member getReference(UUID memberId) {
+    return memberRepository.getReferenceById(memberId);
   }
 
   public void updateMember(UpdateMemberCommand command) {
@@ -80,6 +92,20 @@ public class MemberService {
     if (command.hasIntroduction()) {
       member.setIntroduction(command.introduction());
     }
+    memberCache.evict(member.getId());
+  }
+
+  /**
+   * 저장된 해시가 expectedPassword 와 같을 때만 교체합니다 (그 사이 비밀번호가 바뀐 경우 덮어쓰지 않음).
+   */
+  public void updatePassword(UUID memberId, String expectedPassword, String encodedPassword) {
+    Member member = memberRepository.findById(memberId)
+        .orElseThrow(() -> new EntityNotFoundException(MEMBER_ENTITY, memberId));
+    if (!member.getPassword().equals(expectedPassword)) {
+      return;
+    }
+    member.setPassword(encodedPassword);
+    memberCache.evict(memberId);
   }
 
   @Transactional(readOnly = true)
@@ -1,25 +1,20 @@
 package point.zzicback.member.application.event;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import point.zzicback.category.application.CategoryService;
-import point.zzicback.category.application.command.CreateCategoryCommand;
-
-import java.util.List;
+import org.springframework.transaction.event.*;
+import point.zzicback.category.application.DefaultCategoryProvisioner;
+import point.zzicback.common.config.AsyncEventConfig;
 
 @Component
 @RequiredArgsConstructor
 public class MemberEventHandler {
-    private final CategoryService categoryService;
+    private final DefaultCategoryProvisioner defaultCategoryProvisioner;
 
-    @EventListener
+    @Async(AsyncEventConfig.EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleMemberCreated(MemberCreatedEvent event) {
-        List<String> categoryNames = List.of("기본", "개인", "업무");
-        categoryNames.forEach(name -> {
-            CreateCategoryCommand command = new CreateCategoryCommand(
-                    event.memberId(), name, null, null);
-            categoryService.createCategory(command);
-        });
+        defaultCategoryProvisioner.provision(event.memberId());
     }
 }
@@ -0,0 +1,91 @@
+package point.zzicback.member.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.*;
+import org.springframework.web.context.request.*;
+import point.zzicback.member.domain.Member;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 회원 조회 결과를 요청 단위 identity map 과 짧은 TTL 의 공유 캐시, 두 단계로 보관합니다.
+ * 같은 요청 안에서는 항상 같은 인스턴스를 돌려주고, 요청 간에는 member.cache.ttl 동안 재사용합니다.
+ * 캐시된 Member 는 준영속 상태이므로 읽기 전용으로만 사용하고, 변경은 MemberService 를 통해 한 뒤 evict 합니다.
+ */
+@Component
+public class MemberCache {
+  private static final String REQUEST_ATTRIBUTE = MemberCache.class.getName() + ".members";
+
+  private final Cache<UUID, Member> members;
+
+  public MemberCache(MeterRegistry meterRegistry,
+                     @Value("${member.cache.ttl:30s}") Duration ttl,
+                     @Value("${member.cache.max-size:10000}") long maxSize) {
+    this.members = Caffeine.newBuilder()
+        .expireAfterWrite(ttl)
+        .maximumSize(maxSize)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, members, "member");
+  }
+
+  public Optional<Member> get(UUID memberId, Function<UUID, Optional<Member>> loader) {
+    Map<UUID, Member> requestMembers = requestMembers();
+    Member member = requestMembers != null ? requestMembers.get(memberId) : null;
+    if (member == null) {
+      member = members.getIfPresent(memberId);
+    }
+    if (member == null) {
+      member = loader.apply(memberId).orElse(null);
+      if (member == null) {
+        return Optional.empty();
+      }
+      members.put(memberId, member);
+    }
+    if (requestMembers != null) {
+      requestMembers.put(memberId, member);
+    }
+    return Optional.of(member);
+  }
+
+  // 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후에도 한 번 더 제거
+  public void evict(UUID memberId) {
+    evictNow(memberId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evictNow(memberId);
+        }
+      });
+    }
+  }
+
+  private void evictNow(UUID memberId) {
+    members.invalidate(memberId);
+    Map<UUID, Member> requestMembers = requestMembers();
+    if (requestMembers != null) {
+      requestMembers.remove(memberId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<UUID, Member> requestMembers() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return null;
+    }
+    Map<UUID, Member> requestMembers = (Map<UUID, Member>) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    if (requestMembers == null) {
+      requestMembers = new HashMap<>();
+      attributes.setAttribute(REQUEST_ATTRIBUTE, requestMembers, RequestAttributes.SCOPE_REQUEST);
+    }
+    return requestMembers;
+  }
+}
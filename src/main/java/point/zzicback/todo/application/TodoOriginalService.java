@@ -5,9 +5,11 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import point.zzicback.category.application.CategorySnapshotCache;
 import point.zzicback.category.domain.Category;
 import point.zzicback.category.infrastructure.CategoryRepository;
 import point.zzicback.common.error.*;
+import point.zzicback.experience.application.event.ExperienceEventKey;
 import point.zzicback.experience.application.event.TodoCompletedEvent;
 import point.zzicback.experience.application.event.TodoUncompletedEvent;
 import point.zzicback.member.application.MemberService;
@@ -29,6 +31,7 @@ public class TodoOriginalService {
     
     private final TodoOriginalRepository todoOriginalRepository;
     private final CategoryRepository categoryRepository;
+    private final CategorySnapshotCache categorySnapshotCache;
     private final MemberService memberService;
     private final TodoApplicationMapper todoApplicationMapper;
     private final ApplicationEventPublisher eventPublisher;
@@ -36,14 +39,14 @@ public class TodoOriginalService {
     public TodoResult getTodo(TodoQuery query) {
         TodoOriginal todoOriginal = todoOriginalRepository.findByIdAndMemberId(query.todoId(), query.memberId())
                 .orElseThrow(() -> new EntityNotFoundException("TodoOriginal", query.todoId()));
-        return todoApplicationMapper.toResult(todoOriginal);
+        return todoApplicationMapper.toResult(todoOriginal, categorySnapshotCache.get(query.memberId()));
     }
     
     @Transactional
     public void createTodo(CreateTodoCommand command) {
         command.validateRepeatDates();
         
-        Member member = memberService.findByIdOrThrow(command.memberId());
+        Member member = memberService.getReference(command.memberId());
         
         Category category = null;
         if (command.categoryId() != null) {
@@ -87,6 +90,7 @@ public class TodoOriginalService {
         
         boolean wasIncomplete = !Boolean.TRUE.equals(todoOriginal.getComplete());
         boolean wasComplete = Boolean.TRUE.equals(todoOriginal.getComplete());
+        Instant previousVersion = todoOriginal.getUpdatedAt();
         
         Integer repeatType = command.repeatType() != null ? command.repeatType() : 0;
         
@@ -113,7 +117,9 @@ public class TodoOriginalService {
             eventPublisher.publishEvent(new TodoCompletedEvent(
                 command.memberId(),
                 command.todoId(),
-                todoOriginal.getTitle()
+                todoOriginal.getTitle(),
+                ExperienceEventKey.of("todo-original:" + command.todoId(), todoOriginal.getDate(),
+                        ExperienceEventKey.COMPLETED, previousVersion)
             ));
         }
         
@@ -122,7 +128,9 @@ public class TodoOriginalService {
             eventPublisher.publishEvent(new TodoUncompletedEvent(
                 command.memberId(),
                 command.todoId(),
-                todoOriginal.getTitle()
+                todoOriginal.getTitle(),
+                ExperienceEventKey.of("todo-original:" + command.todoId(), todoOriginal.getDate(),
+                        ExperienceEventKey.UNCOMPLETED, previousVersion)
             ));
         }
     }
@@ -136,6 +144,7 @@ public class TodoOriginalService {
         
         boolean wasIncomplete = !Boolean.TRUE.equals(todoOriginal.getComplete());
         boolean wasComplete = Boolean.TRUE.equals(todoOriginal.getComplete());
+        Instant previousVersion = todoOriginal.getUpdatedAt();
         
         if (command.title() != null && !command.title().trim().isEmpty()) {
             todoOriginal.setTitle(command.title());
@@ -187,7 +196,9 @@ public class TodoOriginalService {
             eventPublisher.publishEvent(new TodoCompletedEvent(
                 command.memberId(),
                 command.todoId(),
-                todoOriginal.getTitle()
+                todoOriginal.getTitle(),
+                ExperienceEventKey.of("todo-original:" + command.todoId(), todoOriginal.getDate(),
+                        ExperienceEventKey.COMPLETED, previousVersion)
             ));
         }
         
@@ -196,7 +207,9 @@ public class TodoOriginalService {
             eventPublisher.publishEvent(new TodoUncompletedEvent(
                 command.memberId(),
                 command.todoId(),
-                todoOriginal.getTitle()
+                todoOriginal.getTitle(),
+                ExperienceEventKey.of("todo-original:" + command.todoId(), todoOriginal.getDate(),
+                        ExperienceEventKey.UNCOMPLETED, previousVersion)
             ));
         }
     }
@@ -7,9 +7,12 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import point.zzicback.category.application.CategorySnapshotCache;
 import point.zzicback.category.domain.Category;
+import point.zzicback.category.domain.CategorySnapshot;
 import point.zzicback.category.infrastructure.CategoryRepository;
 import point.zzicback.common.error.EntityNotFoundException;
+import point.zzicback.experience.application.event.ExperienceEventKey;
 import point.zzicback.experience.application.event.TodoCompletedEvent;
 import point.zzicback.experience.application.event.TodoUncompletedEvent;
 import point.zzicback.member.application.MemberService;
@@ -30,6 +33,7 @@ import point.zzicback.todo.infrastructure.persistence.TodoRepository;
 import point.zzicback.todo.presentation.dto.response.CalendarTodoStatusResponse;
 
 import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
@@ -43,6 +47,7 @@ public class VirtualTodoService {
     private final TodoOriginalService todoOriginalService;
     private final TodoRepository todoRepository;
     private final CategoryRepository categoryRepository;
+    private final CategorySnapshotCache categorySnapshotCache;
     private final MemberService memberService;
     private final TodoApplicationMapper todoApplicationMapper;
     private final ApplicationEventPublisher eventPublisher;
@@ -78,7 +83,7 @@ public class VirtualTodoService {
                 throw new EntityNotFoundException("Todo", query.originalTodoId() + ":" + query.daysDifference());
             }
             // Todo 테이블에 데이터가 있으면 반환 (완료/미완료 상관없이)
-            return todoApplicationMapper.toResult(todo);
+            return todoApplicationMapper.toResult(todo, categorySnapshotCache.get(query.memberId()));
         }
         
         // Todo 테이블에 데이터가 없으면 가상 Todo 생성
@@ -98,7 +103,7 @@ public class VirtualTodoService {
                 todoOriginal.getDate().plusDays(query.daysDifference());
             
             String virtualId = query.originalTodoId() + ":" + query.daysDifference();
-            return todoApplicationMapper.toVirtualResult(todoOriginal, virtualId, targetDate);
+            return todoApplicationMapper.toVirtualResult(todoOriginal, virtualId, targetDate, categorySnapshotCache.get(query.memberId()));
         }
     }
 
@@ -121,7 +126,7 @@ public class VirtualTodoService {
                     .findFirst()
                     .orElseThrow(() -> new EntityNotFoundException("TodoOriginal", command.originalTodoId()));
             
-            Member member = memberService.findByIdOrThrow(command.memberId());
+            Member member = memberService.getReference(command.memberId());
             
             LocalDate targetDate = todoOriginal.getRepeatStartDate() != null ? 
                 todoOriginal.getRepeatStartDate().plusDays(command.daysDifference()) :
@@ -164,12 +169,13 @@ public class VirtualTodoService {
         // active 상태에 관계없이 기존 Todo 확인
         Optional<Todo> existingTodo = todoRepository.findByTodoIdAndMemberIdIgnoreActive(todoId, command.memberId());
         
-        Member member = memberService.findByIdOrThrow(command.memberId());
+        Member member = memberService.getReference(command.memberId());
         
         if (existingTodo.isPresent()) {
             Todo todo = existingTodo.get();
             boolean wasIncomplete = !Boolean.TRUE.equals(todo.getComplete());
             boolean wasComplete = Boolean.TRUE.equals(todo.getComplete());
+            Instant previousVersion = todo.getUpdatedAt();
             
             // 삭제된 Todo를 다시 활성화
             todo.setActive(true);
@@ -210,7 +216,9 @@ public class VirtualTodoService {
                 eventPublisher.publishEvent(new TodoCompletedEvent(
                     command.memberId(),
                     originalTodoId,
-                    todo.getTitle()
+                    todo.getTitle(),
+                    ExperienceEventKey.of("todo:" + originalTodoId, targetDate,
+                            ExperienceEventKey.COMPLETED, previousVersion)
                 ));
             }
             
@@ -219,11 +227,13 @@ public class VirtualTodoService {
                 eventPublisher.publishEvent(new TodoUncompletedEvent(
                     command.memberId(),
                     originalTodoId,
-                    todo.getTitle()
+                    todo.getTitle(),
+                    ExperienceEventKey.of("todo:" + originalTodoId, targetDate,
+                            ExperienceEventKey.UNCOMPLETED, previousVersion)
                 ));
             }
             
-            return todoApplicationMapper.toResult(todo);
+            return todoApplicationMapper.toResult(todo, categorySnapshotCache.get(command.memberId()));
         } else {
             // 새 Todo 생성
             Todo newTodo = Todo.builder()
@@ -253,11 +263,13 @@ public class VirtualTodoService {
                 eventPublisher.publishEvent(new TodoCompletedEvent(
                     command.memberId(),
                     originalTodoId,
-                    newTodo.getTitle()
+                    newTodo.getTitle(),
+                    ExperienceEventKey.of("todo:" + originalTodoId, targetDate,
+                            ExperienceEventKey.COMPLETED, null)
                 ));
             }
             
-            return todoApplicationMapper.toResult(newTodo);
+            return todoApplicationMapper.toResult(newTodo, categorySnapshotCache.get(command.memberId()));
         }
     }
     
@@ -328,15 +340,18 @@ public class VirtualTodoService {
                 Pageable.unpaged()
         );
 
+        // 카테고리 이름은 회원 스냅샷 한 번으로 조회
+        CategorySnapshot categories = categorySnapshotCache.get(memberId);
+
         // 실제 투두
         List<TodoResult> realTodoResults = realTodoPage.getContent().stream()
-                .map(todoApplicationMapper::toResult)
+                .map(todo -> todoApplicationMapper.toResult(todo, categories))
                 .toList();
         List<TodoResult> allTodos = new ArrayList<>(realTodoResults);
         
         // 가상 투두 (반복 투두 + 원본 투두)
-        List<TodoResult> originalTodos = generateOriginalTodos(query);
-        List<TodoResult> virtualTodos = generateVirtualTodos(query);
+        List<TodoResult> originalTodos = generateOriginalTodos(query, categories);
+        List<TodoResult> virtualTodos = generateVirtualTodos(query, categories);
         allTodos.addAll(originalTodos);
         allTodos.addAll(virtualTodos);
         
@@ -350,13 +365,14 @@ public class VirtualTodoService {
     }
     
     private Page<TodoResult> getTodoListWithVirtualTodos(TodoSearchQuery query, Page<Todo> todoPage) {
+        CategorySnapshot categories = categorySnapshotCache.get(query.memberId());
         List<TodoResult> realTodos = todoPage.getContent().stream()
                 .filter(todo -> Boolean.TRUE.equals(todo.getActive()) && Boolean.TRUE.equals(todo.getComplete()))
-                .map(todoApplicationMapper::toResult)
+                .map(todo -> todoApplicationMapper.toResult(todo, categories))
                 .toList();
         
-        List<TodoResult> originalTodos = generateOriginalTodos(query);
-        List<TodoResult> virtualTodos = generateVirtualTodos(query);
+        List<TodoResult> originalTodos = generateOriginalTodos(query, categories);
+        List<TodoResult> virtualTodos = generateVirtualTodos(query, categories);
         
         List<TodoResult> allTodos = new ArrayList<>();
         allTodos.addAll(realTodos);
@@ -374,7 +390,7 @@ public class VirtualTodoService {
         return new PageImpl<>(pagedTodos, query.pageable(), allTodos.size());
     }
     
-    private List<TodoResult> generateVirtualTodos(TodoSearchQuery query) {
+    private List<TodoResult> generateVirtualTodos(TodoSearchQuery query, CategorySnapshot categories) {
         if (query.startDate() == null || query.endDate() == null) {
             return new ArrayList<>();
         }
@@ -427,7 +443,7 @@ public class VirtualTodoService {
                     long daysDifference = repeatStartDate != null ?
                             ChronoUnit.DAYS.between(repeatStartDate, virtualDate) : 0;
                     String virtualId = todoOriginal.getId() + ":" + daysDifference;
-                    virtualTodos.add(todoApplicationMapper.toVirtualResult(todoOriginal, virtualId, virtualDate));
+                    virtualTodos.add(todoApplicationMapper.toVirtualResult(todoOriginal, virtualId, virtualDate, categories));
                 }
             }
         }
@@ -435,7 +451,7 @@ public class VirtualTodoService {
         return virtualTodos;
     }
     
-    private List<TodoResult> generateOriginalTodos(TodoSearchQuery query) {
+    private List<TodoResult> generateOriginalTodos(TodoSearchQuery query, CategorySnapshot categories) {
         // 완료만 조회하는 경우에만 원본 투두 제외 (이미 완료되어 실제 투두로 저장됨)
         if (query.complete() != null && query.complete()) {
             return new ArrayList<>();
@@ -471,10 +487,10 @@ public class VirtualTodoService {
                     long daysDifference = ChronoUnit.DAYS.between(
                             todoOriginal.getRepeatStartDate(), todoOriginal.getDate());
                     String virtualId = todoOriginal.getId() + ":" + daysDifference;
-                    originalTodos.add(todoApplicationMapper.toOriginalResult(todoOriginal, virtualId, todoOriginal.getDate()));
+                    originalTodos.add(todoApplicationMapper.toOriginalResult(todoOriginal, virtualId, todoOriginal.getDate(), categories));
                 } else {
                     String virtualId = todoOriginal.getId() + ":0";
-                    originalTodos.add(todoApplicationMapper.toOriginalResult(todoOriginal, virtualId, todoOriginal.getDate()));
+                    originalTodos.add(todoApplicationMapper.toOriginalResult(todoOriginal, virtualId, todoOriginal.getDate(), categories));
                 }
             }
         }
@@ -1,12 +1,16 @@
 package point.zzicback.todo.application.mapper;
 
 import org.mapstruct.*;
+import point.zzicback.category.domain.CategorySnapshot;
 import point.zzicback.todo.application.dto.result.TodoResult;
 import point.zzicback.todo.domain.Todo;
 import point.zzicback.todo.domain.TodoOriginal;
 
 import java.time.LocalDate;
 
+/**
+ * 카테고리 이름은 CategorySnapshot 에서 조회하여 투두마다 카테고리 프록시를 초기화하지 않습니다.
+ */
 @Mapper(componentModel = "spring")
 public interface TodoApplicationMapper {
 
@@ -16,11 +20,11 @@ public interface TodoApplicationMapper {
     @Mapping(target = "displayOrder", source = "displayOrder")
     @Mapping(target = "priorityName", expression = "java(getPriorityName(todoOriginal.getPriorityId()))")
     @Mapping(target = "categoryId", expression = "java(todoOriginal.getCategory() != null ? todoOriginal.getCategory().getId() : null)")
-    @Mapping(target = "categoryName", expression = "java(todoOriginal.getCategory() != null ? todoOriginal.getCategory().getName() : null)")
+    @Mapping(target = "categoryName", expression = "java(categories.nameOf(todoOriginal.getCategory()))")
     @Mapping(target = "date", source = "date")
     @Mapping(target = "time", source = "time")
     @Mapping(target = "originalTodoId", source = "id")
-    TodoResult toResult(TodoOriginal todoOriginal);
+    TodoResult toResult(TodoOriginal todoOriginal, @Context CategorySnapshot categories);
 
     @Mapping(target = "id", source = "virtualId")
     @Mapping(target = "complete", constant = "false")
@@ -28,7 +32,7 @@ public interface TodoApplicationMapper {
     @Mapping(target = "displayOrder", source = "todoOriginal.displayOrder")
     @Mapping(target = "priorityName", expression = "java(getPriorityName(todoOriginal.getPriorityId()))")
     @Mapping(target = "categoryId", expression = "java(todoOriginal.getCategory() != null ? todoOriginal.getCategory().getId() : null)")
-    @Mapping(target = "categoryName", expression = "java(todoOriginal.getCategory() != null ? todoOriginal.getCategory().getName() : null)")
+    @Mapping(target = "categoryName", expression = "java(categories.nameOf(todoOriginal.getCategory()))")
     @Mapping(target = "date", source = "virtualDate")
     @Mapping(target = "time", source = "todoOriginal.time")
     @Mapping(target = "repeatType", source = "todoOriginal.repeatType")
@@ -37,7 +41,7 @@ public interface TodoApplicationMapper {
     @Mapping(target = "daysOfWeek", source = "todoOriginal.daysOfWeek")
     @Mapping(target = "originalTodoId", source = "todoOriginal.id")
     @Mapping(target = "tags", source = "todoOriginal.tags")
-    TodoResult toVirtualResult(TodoOriginal todoOriginal, String virtualId, LocalDate virtualDate);
+    TodoResult toVirtualResult(TodoOriginal todoOriginal, String virtualId, LocalDate virtualDate, @Context CategorySnapshot categories);
 
     @Mapping(target = "id", source = "virtualId")
     @Mapping(target = "complete", source = "todoOriginal.completed")
@@ -45,7 +49,7 @@ public interface TodoApplicationMapper {
     @Mapping(target = "displayOrder", source = "todoOriginal.displayOrder")
     @Mapping(target = "priorityName", expression = "java(getPriorityName(todoOriginal.getPriorityId()))")
     @Mapping(target = "categoryId", expression = "java(todoOriginal.getCategory() != null ? todoOriginal.getCategory().getId() : null)")
-    @Mapping(target = "categoryName", expression = "java(todoOriginal.getCategory() != null ? todoOriginal.getCategory().getName() : null)")
+    @Mapping(target = "categoryName", expression = "java(categories.nameOf(todoOriginal.getCategory()))")
     @Mapping(target = "date", source = "originalDate")
     @Mapping(target = "time", source = "todoOriginal.time")
     @Mapping(target = "repeatType", source = "todoOriginal.repeatType")
@@ -54,20 +58,20 @@ public interface TodoApplicationMapper {
     @Mapping(target = "daysOfWeek", source = "todoOriginal.daysOfWeek")
     @Mapping(target = "originalTodoId", source = "todoOriginal.id")
     @Mapping(target = "tags", source = "todoOriginal.tags")
-    TodoResult toOriginalResult(TodoOriginal todoOriginal, String virtualId, LocalDate originalDate);
+    TodoResult toOriginalResult(TodoOriginal todoOriginal, String virtualId, LocalDate originalDate, @Context CategorySnapshot categories);
 
     @Mapping(target = "id", expression = "java(todo.getTodoId().getId() + \":\" + todo.getTodoId().getSeq())")
     @Mapping(target = "isPinned", source = "isPinned")
     @Mapping(target = "displayOrder", source = "displayOrder")
     @Mapping(target = "priorityName", expression = "java(getPriorityName(todo.getPriorityId()))")
     @Mapping(target = "categoryId", expression = "java(todo.getCategory() != null ? todo.getCategory().getId() : null)")
-    @Mapping(target = "categoryName", expression = "java(todo.getCategory() != null ? todo.getCategory().getName() : null)")
+    @Mapping(target = "categoryName", expression = "java(categories.nameOf(todo.getCategory()))")
     @Mapping(target = "originalTodoId", expression = "java(todo.getTodoId().getId())")
     @Mapping(target = "repeatType", ignore = true)
     @Mapping(target = "repeatInterval", ignore = true)
     @Mapping(target = "repeatEndDate", ignore = true)
     @Mapping(target = "daysOfWeek", ignore = true)
-    TodoResult toResult(Todo todo);
+    TodoResult toResult(Todo todo, @Context CategorySnapshot categories);
 
     default String getPriorityName(Integer priorityId) {
         if (priorityId == null) return null;
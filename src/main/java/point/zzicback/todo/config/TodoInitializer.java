@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.*;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import point.zzicback.category.domain.Category;
 import point.zzicback.category.infrastructure.CategoryRepository;
 import point.zzicback.member.domain.Member;
@@ -25,6 +26,7 @@ public class TodoInitializer implements ApplicationRunner {
     log.info("Todo initialization ready!");
   }
 
+  @Transactional
   public void createDefaultTodosForMember(Member member) {
     if (!"anon@zzic.com".equals(member.getEmail())) {
       log.debug("Member {} is not the target anon user, skipping initialization", member.getNickname());
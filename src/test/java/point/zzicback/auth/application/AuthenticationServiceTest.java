@@ -0,0 +1,96 @@
+package point.zzicback.auth.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.*;
+import point.zzicback.auth.config.properties.PasswordHashingProperties;
+import point.zzicback.common.error.BusinessException;
+import point.zzicback.member.application.MemberService;
+import point.zzicback.member.domain.Member;
+import point.zzicback.member.infrastructure.cache.MemberCache;
+import point.zzicback.member.infrastructure.persistence.MemberRepository;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 로그인은 트랜잭션 밖에서 실행되므로 테스트 트랜잭션 없이 실제 커밋 여부를 확인
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+    AuthenticationService.class,
+    PasswordHashingService.class,
+    MemberService.class,
+    MemberCache.class,
+    SimpleMeterRegistry.class,
+    AuthenticationServiceTest.HashingConfig.class
+})
+class AuthenticationServiceTest {
+  private static final int CONFIGURED_STRENGTH = 4;
+  private static final String PASSWORD = "password";
+
+  @Autowired
+  private AuthenticationService authenticationService;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  private Member member;
+
+  @TestConfiguration
+  static class HashingConfig {
+    @Bean
+    PasswordHashingProperties passwordHashingProperties() {
+      return new PasswordHashingProperties(CONFIGURED_STRENGTH, 1, 4, Duration.ofSeconds(1));
+    }
+
+    @Bean
+    PasswordEncoder passwordEncoder() {
+      return new BCryptPasswordEncoder(CONFIGURED_STRENGTH);
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    member = memberRepository.save(Member.builder()
+        .email(UUID.randomUUID() + "@example.com")
+        .nickname("tester")
+        .password(new BCryptPasswordEncoder(CONFIGURED_STRENGTH + 1).encode(PASSWORD))
+        .timeZone("Asia/Seoul")
+        .locale("ko_KR")
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    memberRepository.deleteById(member.getId());
+  }
+
+  @Test
+  @DisplayName("로그인 시 설정과 다른 cost 의 해시를 새 cost 로 재해싱하여 저장")
+  void authenticate_RehashesToConfiguredStrength() {
+    authenticationService.authenticate(member.getEmail(), PASSWORD);
+
+    String stored = memberRepository.findById(member.getId()).orElseThrow().getPassword();
+    assertThat(stored).startsWith("$2a$04$");
+    assertThat(new BCryptPasswordEncoder().matches(PASSWORD, stored)).isTrue();
+  }
+
+  @Test
+  @DisplayName("비밀번호가 틀리면 실패하고 해시는 그대로 유지")
+  void authenticate_WrongPassword_KeepsHash() {
+    String before = member.getPassword();
+
+    assertThatThrownBy(() -> authenticationService.authenticate(member.getEmail(), "wrong"))
+        .isInstanceOf(BusinessException.class);
+
+    assertThat(memberRepository.findById(member.getId()).orElseThrow().getPassword()).isEqualTo(before);
+  }
+}
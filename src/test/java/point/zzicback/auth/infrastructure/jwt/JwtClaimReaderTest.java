@@ -0,0 +1,66 @@
+package point.zzicback.auth.infrastructure.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtClaimReaderTest {
+  private static final String HEADER = encode("{\"alg\":\"RS256\"}");
+
+  @Test
+  @DisplayName("이스케이프된 문자열 클레임을 원래 문자열로 읽음")
+  void read_EscapedString() {
+    String token = token("{\"device\":\"a\\\"b\\\\c\\u00e9\\n\"}");
+
+    assertThat(JwtClaimReader.read(token, "device")).isEqualTo("a\"b\\cé\n");
+  }
+
+  @Test
+  @DisplayName("숫자/불리언 클레임은 문자열로, null/객체/배열 클레임은 null 로 읽음")
+  void read_NonStringClaims() {
+    String token = token("{\"exp\":1700000000,\"ratio\":1.5,\"admin\":true,"
+        + "\"nothing\":null,\"obj\":{\"a\":1},\"arr\":[1,2]}");
+
+    assertThat(JwtClaimReader.read(token, "exp")).isEqualTo("1700000000");
+    assertThat(JwtClaimReader.read(token, "ratio")).isEqualTo("1.5");
+    assertThat(JwtClaimReader.read(token, "admin")).isEqualTo("true");
+    assertThat(JwtClaimReader.read(token, "nothing")).isNull();
+    assertThat(JwtClaimReader.read(token, "obj")).isNull();
+    assertThat(JwtClaimReader.read(token, "arr")).isNull();
+    assertThat(JwtClaimReader.read(token, "missing")).isNull();
+  }
+
+  @Test
+  @DisplayName("중첩 객체/배열 안의 같은 이름 필드는 건너뛰고 최상위 클레임만 읽음")
+  void read_SkipsNestedFields() {
+    String token = token("{\"meta\":{\"device\":\"nested\",\"deep\":{\"device\":\"deeper\"}},"
+        + "\"list\":[{\"device\":\"in-array\"}],\"device\":\"top\"}");
+    String nestedOnly = token("{\"meta\":{\"device\":\"nested\"},\"list\":[{\"device\":\"in-array\"}]}");
+
+    assertThat(JwtClaimReader.read(token, "device")).isEqualTo("top");
+    assertThat(JwtClaimReader.read(nestedOnly, "device")).isNull();
+  }
+
+  @Test
+  @DisplayName("JWT 형식이 아니거나 payload 를 읽을 수 없으면 IllegalArgumentException")
+  void read_MalformedTokens() {
+    assertThatIllegalArgumentException().isThrownBy(() -> JwtClaimReader.read("no-dots", "sub"));
+    assertThatIllegalArgumentException().isThrownBy(() -> JwtClaimReader.read(HEADER + ".only-one-dot", "sub"));
+    assertThatIllegalArgumentException().isThrownBy(() -> JwtClaimReader.read(HEADER + ".!!!.sig", "sub"));
+    assertThatIllegalArgumentException().isThrownBy(() -> JwtClaimReader.read(token("[\"sub\"]"), "sub"));
+    assertThatIllegalArgumentException().isThrownBy(() -> JwtClaimReader.read(token("{\"other\":"), "sub"));
+    assertThatIllegalArgumentException().isThrownBy(() -> JwtClaimReader.read(token("not json"), "sub"));
+  }
+
+  private static String token(String payloadJson) {
+    return HEADER + "." + encode(payloadJson) + ".signature";
+  }
+
+  private static String encode(String json) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,164 @@
+package point.zzicback.auth.presentation;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.*;
+import org.springframework.security.oauth2.jwt.*;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import point.zzicback.auth.application.*;
+import point.zzicback.auth.config.properties.JwtProperties;
+import point.zzicback.auth.config.properties.JwtProperties.*;
+import point.zzicback.auth.infrastructure.persistence.InMemoryTokenRepository;
+import point.zzicback.member.application.MemberService;
+import point.zzicback.member.domain.Member;
+import point.zzicback.todo.config.TodoInitializer;
+
+import java.security.*;
+import java.security.interfaces.*;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 실제 JWT 서명/검증과 토큰 저장소로 /auth/refresh 의 교체 및 실패 시 쿠키 만료를 확인
+class AuthControllerRefreshTest {
+  private static final String KEY_ID = "test-key";
+  private static final String ACCESS_COOKIE = "access-token";
+  private static final String REFRESH_COOKIE = "refresh-token";
+  private static final int REFRESH_EXPIRATION = 3600;
+
+  private final UUID memberId = UUID.randomUUID();
+  private final String deviceId = UUID.randomUUID().toString();
+
+  private JwtEncoder jwtEncoder;
+  private TokenService tokenService;
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() throws NoSuchAlgorithmException {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    KeyPair keyPair = generator.generateKeyPair();
+    RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+    RSAKey rsaKey = new RSAKey.Builder(publicKey)
+        .privateKey((RSAPrivateKey) keyPair.getPrivate())
+        .keyID(KEY_ID)
+        .build();
+    jwtEncoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(rsaKey)));
+
+    JwtProperties jwtProperties = new JwtProperties(KEY_ID, null, null,
+        new AccessTokenProperties(cookie(ACCESS_COOKIE), 60),
+        new RefreshTokenProperties(cookie(REFRESH_COOKIE), REFRESH_EXPIRATION));
+    MemberService memberService = mock(MemberService.class);
+    when(memberService.findVerifiedMember(memberId)).thenReturn(Member.builder()
+        .email("user@example.com")
+        .nickname("tester")
+        .password("password")
+        .timeZone("Asia/Seoul")
+        .locale("ko_KR")
+        .build());
+    tokenService = new TokenService(jwtProperties, jwtEncoder, NimbusJwtDecoder.withPublicKey(publicKey).build(),
+        memberService, new InMemoryTokenRepository(new SimpleMeterRegistry(), 100));
+
+    AuthController controller = new AuthController(memberService, mock(PasswordHashingService.class),
+        mock(AuthenticationService.class), tokenService, new CookieService(jwtProperties), mock(TodoInitializer.class));
+    mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+  }
+
+  @Test
+  @DisplayName("유효한 리프레시 토큰이면 새 토큰으로 교체하여 쿠키로 발급하고 이전 토큰은 폐기")
+  void refresh_RotatesTokens() throws Exception {
+    Instant issuedAt = Instant.now().minus(1, ChronoUnit.MINUTES);
+    String oldRefreshToken = refreshToken(issuedAt, issuedAt.plusSeconds(REFRESH_EXPIRATION));
+    tokenService.save(memberId.toString(), deviceId, oldRefreshToken);
+
+    MvcResult result = mockMvc.perform(get("/auth/refresh").cookie(new Cookie(REFRESH_COOKIE, oldRefreshToken)))
+        .andExpect(status().isOk())
+        .andReturn();
+
+    String newRefreshToken = cookieValue(result, REFRESH_COOKIE);
+    assertThat(cookieValue(result, ACCESS_COOKIE)).isNotEmpty();
+    assertThat(newRefreshToken).isNotEmpty().isNotEqualTo(oldRefreshToken);
+    assertThat(tokenService.extractClaim(newRefreshToken, TokenService.DEVICE_CLAIM)).isEqualTo(deviceId);
+    assertThat(tokenService.isValidRefreshToken(deviceId, newRefreshToken)).isTrue();
+
+    // 이전 토큰 재사용은 실패하고 해당 기기의 토큰이 폐기됨
+    mockMvc.perform(get("/auth/refresh").cookie(new Cookie(REFRESH_COOKIE, oldRefreshToken)))
+        .andExpect(status().isUnauthorized());
+    assertThat(tokenService.isValidRefreshToken(deviceId, newRefreshToken)).isFalse();
+  }
+
+  @Test
+  @DisplayName("만료된 리프레시 토큰이면 401 과 함께 두 쿠키를 만료시킴")
+  void refresh_ExpiredToken_ExpiresCookies() throws Exception {
+    Instant issuedAt = Instant.now().minus(2, ChronoUnit.HOURS);
+    String expiredRefreshToken = refreshToken(issuedAt, issuedAt.plus(1, ChronoUnit.HOURS));
+    tokenService.save(memberId.toString(), deviceId, expiredRefreshToken);
+
+    MvcResult result = mockMvc.perform(get("/auth/refresh").cookie(new Cookie(REFRESH_COOKIE, expiredRefreshToken)))
+        .andExpect(status().isUnauthorized())
+        .andReturn();
+
+    assertExpired(result, ACCESS_COOKIE);
+    assertExpired(result, REFRESH_COOKIE);
+    assertThat(tokenService.isValidRefreshToken(deviceId, expiredRefreshToken)).isFalse();
+  }
+
+  @Test
+  @DisplayName("JWT 형식이 아닌 리프레시 토큰이면 401 과 함께 두 쿠키를 만료시킴")
+  void refresh_MalformedToken_ExpiresCookies() throws Exception {
+    MvcResult result = mockMvc.perform(get("/auth/refresh").cookie(new Cookie(REFRESH_COOKIE, "not-a-jwt")))
+        .andExpect(status().isUnauthorized())
+        .andReturn();
+
+    assertExpired(result, ACCESS_COOKIE);
+    assertExpired(result, REFRESH_COOKIE);
+  }
+
+  @Test
+  @DisplayName("리프레시 토큰 쿠키가 없으면 쿠키 변경 없이 401")
+  void refresh_MissingCookie() throws Exception {
+    MvcResult result = mockMvc.perform(get("/auth/refresh"))
+        .andExpect(status().isUnauthorized())
+        .andReturn();
+
+    assertThat(result.getResponse().getHeaders("Set-Cookie")).isEmpty();
+  }
+
+  private String refreshToken(Instant issuedAt, Instant expiresAt) {
+    JwtClaimsSet claims = JwtClaimsSet.builder()
+        .subject(memberId.toString())
+        .issuedAt(issuedAt)
+        .expiresAt(expiresAt)
+        .claim(TokenService.DEVICE_CLAIM, deviceId)
+        .build();
+    JwsHeader header = JwsHeader.with(() -> "RS256").keyId(KEY_ID).build();
+    return jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+  }
+
+  private static CookieProperties cookie(String name) {
+    return new CookieProperties(name, null, "/", false, true, "Lax");
+  }
+
+  private static String cookieValue(MvcResult result, String name) {
+    return result.getResponse().getHeaders("Set-Cookie").stream()
+        .filter(header -> header.startsWith(name + "="))
+        .map(header -> header.substring(name.length() + 1, header.indexOf(';')))
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("Set-Cookie " + name + " not found"));
+  }
+
+  private static void assertExpired(MvcResult result, String name) {
+    assertThat(result.getResponse().getHeaders("Set-Cookie"))
+        .anySatisfy(header -> assertThat(header).startsWith(name + "=;").contains("Max-Age=0"));
+  }
+}
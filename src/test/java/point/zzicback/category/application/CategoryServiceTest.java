@@ -1,5 +1,6 @@
 package point.zzicback.category.application;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,12 +8,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import point.zzicback.category.application.command.*;
-import point.zzicback.category.infrastructure.CategoryRepository;
+import point.zzicback.category.infrastructure.*;
 import point.zzicback.category.presentation.dto.CategoryResponse;
 import point.zzicback.common.error.BusinessException;
 import point.zzicback.member.application.MemberService;
 import point.zzicback.member.application.dto.command.CreateMemberCommand;
 import point.zzicback.member.domain.Member;
+import point.zzicback.member.infrastructure.cache.MemberCache;
 
 import java.util.List;
 
@@ -21,7 +23,11 @@ import static org.assertj.core.api.Assertions.*;
 @DataJpaTest
 @Import({
     CategoryService.class,
-    MemberService.class
+    CategorySnapshotCache.class,
+    InMemoryCategoryVersionStore.class,
+    MemberService.class,
+    MemberCache.class,
+    SimpleMeterRegistry.class
 })
 class CategoryServiceTest {
 
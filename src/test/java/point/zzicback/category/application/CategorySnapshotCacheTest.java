@@ -0,0 +1,133 @@
+package point.zzicback.category.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.*;
+import point.zzicback.category.application.command.*;
+import point.zzicback.category.domain.*;
+import point.zzicback.category.infrastructure.CategoryRepository;
+import point.zzicback.category.presentation.dto.CategoryResponse;
+import point.zzicback.member.application.MemberService;
+import point.zzicback.member.domain.Member;
+import point.zzicback.member.infrastructure.cache.MemberCache;
+import point.zzicback.member.infrastructure.persistence.MemberRepository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 커밋 후 제거/버전 갱신을 확인하기 위해 테스트 트랜잭션 없이 실행
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+    CategoryService.class,
+    CategorySnapshotCache.class,
+    CategorySnapshotCacheTest.SharedVersionStore.class,
+    MemberService.class,
+    MemberCache.class,
+    SimpleMeterRegistry.class
+})
+class CategorySnapshotCacheTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategorySnapshotCache categorySnapshotCache;
+
+    @Autowired
+    private CategoryVersionStore versionStore;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+
+    // 여러 노드가 공유하는 Redis 버전 저장소를 대신함
+    static class SharedVersionStore implements CategoryVersionStore {
+        private final Map<UUID, String> versions = new ConcurrentHashMap<>();
+
+        @Override
+        public String current(UUID memberId) {
+            return versions.getOrDefault(memberId, "0");
+        }
+
+        @Override
+        public void renew(UUID memberId) {
+            versions.put(memberId, UUID.randomUUID().toString());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .nickname("tester")
+                .password("password")
+                .timeZone("Asia/Seoul")
+                .locale("ko_KR")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // JDBC 로 바꾼 행은 2차 캐시와 어긋나므로 JDBC 로 정리
+        jdbcTemplate.update("DELETE FROM categories WHERE member_id = ?", member.getId());
+        memberRepository.deleteById(member.getId());
+    }
+
+    @Test
+    @DisplayName("카테고리 생성/수정/삭제가 커밋되면 캐시된 스냅샷에 반영")
+    void snapshotReflectsCommittedChanges() {
+        assertThat(cachedNames()).isEmpty();
+
+        CategoryResponse created = categoryService.createCategory(
+                new CreateCategoryCommand(member.getId(), "업무", "#ff0000", null));
+        assertThat(cachedNames()).containsExactly("업무");
+
+        categoryService.updateCategory(
+                new UpdateCategoryCommand(member.getId(), created.id(), "개인", "#00ff00", null));
+        assertThat(cachedNames()).containsExactly("개인");
+
+        categoryService.deleteCategory(new DeleteCategoryCommand(member.getId(), created.id()));
+        assertThat(cachedNames()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 커밋 후 버전을 갱신하면 이 노드의 2차 캐시와 무관하게 DB 에서 다시 로딩")
+    void reloadsWhenVersionRenewedByAnotherNode() {
+        CategoryResponse created = categoryService.createCategory(
+                new CreateCategoryCommand(member.getId(), "업무", "#ff0000", null));
+        assertThat(cachedNames()).containsExactly("업무");
+        // 이 노드의 쿼리 캐시/엔티티 캐시에 변경 전 행을 적재
+        assertThat(categoryRepository.findByMemberIdOrderByNameAsc(member.getId()))
+                .extracting(Category::getName)
+                .containsExactly("업무");
+
+        // 다른 노드의 변경: Hibernate 를 거치지 않으므로 이 노드의 캐시는 무효화되지 않음
+        jdbcTemplate.update("UPDATE categories SET name = ? WHERE id = ?", "개인", created.id());
+        jdbcTemplate.update("INSERT INTO categories (name, color, member_id) VALUES (?, ?, ?)",
+                "공부", "#0000ff", member.getId());
+        assertThat(cachedNames()).containsExactly("업무");
+
+        versionStore.renew(member.getId());
+        assertThat(cachedNames()).containsExactly("개인", "공부");
+    }
+
+    private List<String> cachedNames() {
+        return categorySnapshotCache.get(member.getId()).entries().stream()
+                .map(CategorySnapshot.Entry::name)
+                .toList();
+    }
+}
@@ -0,0 +1,147 @@
+package point.zzicback.category.infrastructure;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.*;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.zzicback.category.config.properties.CategoryProperties.DefaultCategory;
+import point.zzicback.category.domain.Category;
+import point.zzicback.member.domain.Member;
+import point.zzicback.member.infrastructure.persistence.MemberRepository;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 요청마다 새 영속성 컨텍스트를 쓰는 실제 환경과 같도록 테스트 트랜잭션 없이 실행
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(CategoryBatchWriter.class)
+class CategoryRepositoryCacheTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CategoryBatchWriter categoryBatchWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private Member member;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        member = memberRepository.save(Member.builder()
+                .email(UUID.randomUUID() + "@example.com")
+                .nickname("tester")
+                .password("password")
+                .timeZone("Asia/Seoul")
+                .locale("ko_KR")
+                .build());
+        category = categoryRepository.save(Category.builder()
+                .name("업무")
+                .color("#ff0000")
+                .member(member)
+                .build());
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteById(category.getId());
+        memberRepository.deleteById(member.getId());
+    }
+
+    @Test
+    @DisplayName("회원 카테고리 목록 재조회 시 SQL 미실행")
+    void findByMemberIdOrderByNameAsc_SecondCallServedFromCache() {
+        categoryRepository.findByMemberIdOrderByNameAsc(member.getId());
+        long firstCallStatements = statistics.getPrepareStatementCount();
+
+        List<Category> categories = categoryRepository.findByMemberIdOrderByNameAsc(member.getId());
+
+        assertThat(firstCallStatements).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(firstCallStatements);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(categories).extracting(Category::getName).containsExactly("업무");
+    }
+
+    @Test
+    @DisplayName("ID와 회원 ID로 카테고리 재조회 시 SQL 미실행")
+    void findByIdAndMemberId_SecondCallServedFromCache() {
+        categoryRepository.findByIdAndMemberId(category.getId(), member.getId());
+        long firstCallStatements = statistics.getPrepareStatementCount();
+
+        Optional<Category> found = categoryRepository.findByIdAndMemberId(category.getId(), member.getId());
+
+        assertThat(firstCallStatements).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(firstCallStatements);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(found).map(Category::getColor).contains("#ff0000");
+    }
+
+    @Test
+    @DisplayName("카테고리 수정 후 재조회 시 변경 내용 반영")
+    void update_InvalidatesCachedQuery() {
+        categoryRepository.findByMemberIdOrderByNameAsc(member.getId());
+
+        category.update("개인", "#00ff00", null);
+        category = categoryRepository.save(category);
+        long beforeReload = statistics.getPrepareStatementCount();
+
+        List<Category> categories = categoryRepository.findByMemberIdOrderByNameAsc(member.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(beforeReload);
+        assertThat(categories).extracting(Category::getName).containsExactly("개인");
+    }
+
+    @Test
+    @DisplayName("배치 INSERT 커밋 전에 다른 요청이 다시 캐시한 목록은 커밋 후 비워짐")
+    void insertAll_EvictsQueryCacheAfterCommit() {
+        categoryRepository.findByMemberIdOrderByNameAsc(member.getId());
+        ExecutorService otherRequest = Executors.newSingleThreadExecutor();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                categoryBatchWriter.insertAll(member.getId(), List.of(new DefaultCategory("개인", "#00ff00", null)));
+                // 커밋 전 조회는 INSERT 이전 목록을 쿼리 캐시에 다시 저장
+                List<Category> beforeCommit = join(otherRequest.submit(
+                        () -> categoryRepository.findByMemberIdOrderByNameAsc(member.getId())));
+                assertThat(beforeCommit).extracting(Category::getName).containsExactly("업무");
+            });
+
+            List<Category> categories = categoryRepository.findByMemberIdOrderByNameAsc(member.getId());
+
+            assertThat(categories).extracting(Category::getName).containsExactly("개인", "업무");
+        } finally {
+            otherRequest.shutdown();
+            categoryRepository.findByMemberIdOrderByNameAsc(member.getId()).stream()
+                    .filter(found -> !found.getId().equals(category.getId()))
+                    .forEach(categoryRepository::delete);
+        }
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
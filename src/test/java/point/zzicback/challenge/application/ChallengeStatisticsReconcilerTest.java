@@ -0,0 +1,76 @@
+package point.zzicback.challenge.application;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import point.zzicback.challenge.application.dto.result.ChallengePeriodCompletionResult;
+import point.zzicback.challenge.domain.*;
+import point.zzicback.challenge.infrastructure.*;
+import point.zzicback.common.persistence.DatabasePlatform;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import({
+    ChallengeStatisticsReconciler.class,
+    ChallengeStatisticsService.class,
+    ChallengeStatisticsUpsertWriter.class,
+    DatabasePlatform.class
+})
+class ChallengeStatisticsReconcilerTest {
+    private static final LocalDate PERIOD = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private ChallengeStatisticsReconciler reconciler;
+
+    @Autowired
+    private ChallengeStatisticsService statisticsService;
+
+    @Autowired
+    private ChallengeStatisticsUpsertWriter upsertWriter;
+
+    @Autowired
+    private ChallengeStatisticsRepository statisticsRepository;
+
+    @Autowired
+    private ChallengeRepository challengeRepository;
+
+    @Test
+    void reconcileCorrectsDriftedRowsAndCreatesMissingOnes() {
+        Long drifted = saveChallenge("drifted");
+        Long missing = saveChallenge("missing");
+        upsertWriter.upsertStatistics(new ChallengeStatisticsSnapshot(drifted, 5, 4, 1), 0, 0, 0);
+        upsertWriter.incrementPeriodCompletion(drifted, PERIOD, 3);
+
+        reconciler.reconcile();
+
+        assertThat(statisticsService.getStatistics(drifted))
+                .isEqualTo(new ChallengeStatisticsSnapshot(drifted, 0, 0, 0));
+        assertThat(statisticsService.getPeriodCompletions(drifted))
+                .containsExactly(new ChallengePeriodCompletionResult(PERIOD, 0));
+        assertThat(statisticsRepository.findById(missing)).isPresent();
+    }
+
+    @Test
+    void reconcileDeletesStatisticsOfDeletedChallenges() {
+        Long deletedChallengeId = Long.MAX_VALUE;
+        upsertWriter.upsertStatistics(new ChallengeStatisticsSnapshot(deletedChallengeId, 1, 1, 0), 0, 0, 0);
+
+        reconciler.reconcile();
+
+        assertThat(statisticsRepository.findById(deletedChallengeId)).isEmpty();
+    }
+
+    private Long saveChallenge(String title) {
+        return challengeRepository.save(Challenge.builder()
+                .title(title)
+                .description(title)
+                .periodType(PeriodType.DAILY)
+                .startDate(PERIOD)
+                .endDate(PERIOD.plusDays(30))
+                .build()).getId();
+    }
+}
@@ -0,0 +1,60 @@
+package point.zzicback.challenge.application;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import point.zzicback.challenge.application.dto.result.ChallengePeriodCompletionResult;
+import point.zzicback.challenge.domain.*;
+import point.zzicback.challenge.infrastructure.*;
+import point.zzicback.common.persistence.DatabasePlatform;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@Import({
+    ChallengeStatisticsService.class,
+    ChallengeStatisticsUpsertWriter.class,
+    DatabasePlatform.class
+})
+class ChallengeStatisticsServiceTest {
+    private static final Long CHALLENGE_ID = 1L;
+    private static final LocalDate PERIOD = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private ChallengeStatisticsService statisticsService;
+
+    @Autowired
+    private ChallengeStatisticsUpsertWriter upsertWriter;
+
+    @Autowired
+    private ChallengeStatisticsRepository statisticsRepository;
+
+    @Test
+    void recordCompletionCreatesPeriodRowThenIncrements() {
+        statisticsService.initialize(CHALLENGE_ID);
+        statisticsRepository.flush();
+
+        statisticsService.recordCompletion(CHALLENGE_ID, PERIOD, true);
+        statisticsService.recordCompletion(CHALLENGE_ID, PERIOD, false);
+        statisticsService.recordCompletion(CHALLENGE_ID, PERIOD.plusDays(1), false);
+        statisticsService.recordCancellation(CHALLENGE_ID, PERIOD.plusDays(1), false);
+
+        assertThat(statisticsService.getPeriodCompletions(CHALLENGE_ID)).containsExactly(
+                new ChallengePeriodCompletionResult(PERIOD.plusDays(1), 0),
+                new ChallengePeriodCompletionResult(PERIOD, 2));
+    }
+
+    @Test
+    void upsertStatisticsInsertsSourceThenAppliesDelta() {
+        ChallengeStatisticsSnapshot source = new ChallengeStatisticsSnapshot(CHALLENGE_ID, 3, 2, 1);
+
+        upsertWriter.upsertStatistics(source, 1, 1, 0);
+        upsertWriter.upsertStatistics(source, 1, 1, 0);
+
+        assertThat(statisticsService.getStatistics(CHALLENGE_ID))
+                .isEqualTo(new ChallengeStatisticsSnapshot(CHALLENGE_ID, 4, 3, 1));
+    }
+}
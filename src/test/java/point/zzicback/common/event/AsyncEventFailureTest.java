@@ -0,0 +1,51 @@
+package point.zzicback.common.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import point.zzicback.common.config.AsyncEventConfig;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 동기 모드에서도 @Async 프록시(AsyncExecutionInterceptor)를 그대로 거치므로 예외 처리 경로는 비동기 모드와 같음
+@SpringJUnitConfig({AsyncEventConfig.class, SimpleMeterRegistry.class, AsyncEventFailureTest.FailingListener.class})
+@TestPropertySource(properties = "events.async.enabled=false")
+class AsyncEventFailureTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    record FailingEvent() {
+    }
+
+    static class FailingListener {
+        @Async(AsyncEventConfig.EVENT_EXECUTOR)
+        @EventListener
+        public void handle(FailingEvent event) {
+            throw new IllegalStateException("listener failure");
+        }
+    }
+
+    @Test
+    @DisplayName("비동기 리스너 예외 발생 시 events.async.failures 증가")
+    void listenerFailure_IncrementsFailureCounter() {
+        eventPublisher.publishEvent(new FailingEvent());
+        eventPublisher.publishEvent(new FailingEvent());
+
+        double failures = meterRegistry.get("events.async.failures")
+                .tag("listener", "FailingListener#handle")
+                .counter()
+                .count();
+        assertThat(failures).isEqualTo(2);
+    }
+}
@@ -0,0 +1,131 @@
+package point.zzicback.experience.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.*;
+import org.springframework.transaction.support.TransactionTemplate;
+import point.zzicback.common.persistence.DatabasePlatform;
+import point.zzicback.experience.domain.MemberExperience;
+import point.zzicback.experience.infrastructure.*;
+import point.zzicback.level.application.LevelService;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 작업 스레드 수를 커넥션 풀보다 작게 두어 풀 대기 없이 DB 동시성만 검증 (백그라운드 디스패처 1개 포함)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:experience-concurrency;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+        "spring.datasource.hikari.maximum-pool-size=16",
+        "spring.jpa.show-sql=false",
+        "logging.level.root=info"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ExperienceService.class, LevelService.class, MemberExperienceCreator.class, MemberExperienceBatchWriter.class,
+        DatabasePlatform.class, ExperienceOutboxWriter.class, ExperienceOutboxDispatcher.class})
+class ExperienceServiceConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int DISPATCHERS = 3;
+    private static final int COMPLETIONS = 10_000;
+    private static final int OUTBOX_ENTRIES = 2_000;
+    private static final int EXPERIENCE_PER_COMPLETION = 10;
+
+    @Autowired
+    private ExperienceService experienceService;
+    @Autowired
+    private ExperienceOutboxWriter outboxWriter;
+    @Autowired
+    private ExperienceOutboxDispatcher dispatcher;
+    @Autowired
+    private ExperienceOutboxRepository outboxRepository;
+    @Autowired
+    private MemberExperienceRepository memberExperienceRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("동일 회원에 대한 동시 경험치 적립이 유실 없이 모두 반영")
+    void concurrentCompletionsForSameMember() throws Exception {
+        UUID memberId = UUID.randomUUID();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(COMPLETIONS);
+
+        try {
+            for (int i = 0; i < COMPLETIONS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    experienceService.addExperience(memberId, EXPERIENCE_PER_COMPLETION);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(experienceService.getExperience(memberId)).isEqualTo(COMPLETIONS * EXPERIENCE_PER_COMPLETION);
+    }
+
+    @Test
+    @DisplayName("적재 중인 아웃박스를 여러 디스패처가 동시에 비워도 각 증감이 정확히 한 번 반영")
+    void concurrentOutboxDispatchForNewMember() throws Exception {
+        UUID memberId = UUID.randomUUID();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean enqueuing = new AtomicBoolean(true);
+        List<Future<?>> dispatchers = new ArrayList<>(DISPATCHERS);
+        List<Future<?>> enqueues = new ArrayList<>(OUTBOX_ENTRIES);
+
+        try {
+            // 여러 노드의 디스패처를 흉내: 적재가 끝날 때까지 배치를 계속 비움 (경험치 행이 없는 회원이라 첫 반영에서 생성 경합)
+            for (int i = 0; i < DISPATCHERS; i++) {
+                dispatchers.add(executor.submit(() -> {
+                    start.await();
+                    while (enqueuing.get()) {
+                        dispatcher.dispatchBatch();
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < OUTBOX_ENTRIES; i++) {
+                enqueues.add(executor.submit(() -> {
+                    start.await();
+                    transactionTemplate.executeWithoutResult(status -> outboxWriter.insertIfAbsent(
+                            UUID.randomUUID().toString(), memberId, EXPERIENCE_PER_COMPLETION));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : enqueues) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            enqueuing.set(false);
+            for (Future<?> future : dispatchers) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        while (dispatcher.dispatchBatch() > 0) {
+            // 남은 행 비우기
+        }
+
+        assertThat(memberExperienceRepository.findByMemberId(memberId))
+                .map(MemberExperience::getExperience)
+                .contains(OUTBOX_ENTRIES * EXPERIENCE_PER_COMPLETION);
+        assertThat(outboxRepository.findPendingDeltas(memberId)).isEmpty();
+    }
+}
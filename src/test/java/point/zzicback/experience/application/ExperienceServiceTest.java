@@ -6,8 +6,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import point.zzicback.common.persistence.DatabasePlatform;
 import point.zzicback.experience.domain.MemberExperience;
-import point.zzicback.experience.infrastructure.MemberExperienceRepository;
+import point.zzicback.experience.infrastructure.*;
 import point.zzicback.level.application.LevelService;
 import point.zzicback.level.domain.Level;
 import point.zzicback.level.infrastructure.LevelRepository;
@@ -17,7 +18,8 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import({ExperienceService.class, LevelService.class})
+@Import({ExperienceService.class, LevelService.class, MemberExperienceCreator.class, MemberExperienceBatchWriter.class,
+        DatabasePlatform.class})
 class ExperienceServiceTest {
 
     @Autowired
@@ -0,0 +1,63 @@
+package point.zzicback.experience.application.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import point.zzicback.common.persistence.DatabasePlatform;
+import point.zzicback.experience.application.MemberExperienceCreator;
+import point.zzicback.experience.domain.ExperienceOutbox;
+import point.zzicback.experience.infrastructure.*;
+
+import java.time.*;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({ExperienceEventHandler.class, ExperienceOutboxWriter.class, DatabasePlatform.class, MemberExperienceCreator.class,
+        MemberExperienceBatchWriter.class})
+class ExperienceEventHandlerTest {
+    private static final LocalDate TARGET_DATE = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private ExperienceEventHandler handler;
+    @Autowired
+    private ExperienceOutboxRepository outboxRepository;
+
+    private final UUID memberId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("같은 상태 전이의 완료 이벤트가 중복 발행되면 아웃박스에 한 번만 적재")
+    void duplicateCompletionIsEnqueuedOnce() {
+        Instant previousVersion = Instant.parse("2024-01-01T00:00:00Z");
+
+        handler.handleTodoCompleted(completed(previousVersion));
+        handler.handleTodoCompleted(completed(previousVersion));
+
+        assertThat(outboxRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("완료 → 취소 → 재완료는 변경 전 수정 시각이 달라 모두 적재")
+    void completeUncompleteCompleteIsEnqueuedEachTime() {
+        Instant created = Instant.parse("2024-01-01T00:00:00Z");
+        Instant completedAt = created.plusSeconds(60);
+        Instant uncompletedAt = created.plusSeconds(120);
+
+        handler.handleTodoCompleted(completed(created));
+        handler.handleTodoUncompleted(new TodoUncompletedEvent(memberId, 1L, "투두",
+                ExperienceEventKey.of("todo:1", TARGET_DATE, ExperienceEventKey.UNCOMPLETED, completedAt)));
+        handler.handleTodoCompleted(completed(uncompletedAt));
+
+        assertThat(outboxRepository.findAll())
+                .extracting(ExperienceOutbox::getDelta)
+                .containsExactlyInAnyOrder(10, -10, 10);
+    }
+
+    private TodoCompletedEvent completed(Instant previousVersion) {
+        return new TodoCompletedEvent(memberId, 1L, "투두",
+                ExperienceEventKey.of("todo:1", TARGET_DATE, ExperienceEventKey.COMPLETED, previousVersion));
+    }
+}
@@ -0,0 +1,81 @@
+package point.zzicback.experience.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import point.zzicback.experience.domain.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryExperienceLeaderboardTest {
+    private static final Long CHALLENGE_ID = 1L;
+
+    private final InMemoryExperienceLeaderboard leaderboard = new InMemoryExperienceLeaderboard();
+
+    @Test
+    @DisplayName("동점자는 같은 순위, 다음 순위는 동점자 수만큼 건너뜀")
+    void ranksTiesByExperience() {
+        UUID first = UUID.randomUUID();
+        UUID tiedA = UUID.randomUUID();
+        UUID tiedB = UUID.randomUUID();
+        UUID last = UUID.randomUUID();
+        leaderboard.updateScores(List.of(
+                new LeaderboardScoreUpdate(first, 300, 1),
+                new LeaderboardScoreUpdate(tiedA, 200, 1),
+                new LeaderboardScoreUpdate(tiedB, 200, 1),
+                new LeaderboardScoreUpdate(last, 100, 1)));
+
+        assertThat(leaderboard.findRank(LeaderboardScope.GLOBAL, first)).map(LeaderboardEntry::rank).contains(1L);
+        assertThat(leaderboard.findRank(LeaderboardScope.GLOBAL, tiedA)).map(LeaderboardEntry::rank).contains(2L);
+        assertThat(leaderboard.findRank(LeaderboardScope.GLOBAL, tiedB)).map(LeaderboardEntry::rank).contains(2L);
+        assertThat(leaderboard.findRank(LeaderboardScope.GLOBAL, last)).map(LeaderboardEntry::rank).contains(4L);
+        assertThat(leaderboard.findPage(LeaderboardScope.GLOBAL, 1, 3))
+                .extracting(LeaderboardEntry::rank)
+                .containsExactly(2L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("경험치가 매우 커도 순위 계산")
+    void ranksLargeExperience() {
+        UUID top = UUID.randomUUID();
+        UUID bottom = UUID.randomUUID();
+        leaderboard.updateScores(List.of(
+                new LeaderboardScoreUpdate(top, Integer.MAX_VALUE, 1),
+                new LeaderboardScoreUpdate(bottom, 0, 1)));
+
+        leaderboard.updateScores(List.of(new LeaderboardScoreUpdate(bottom, Integer.MAX_VALUE - 1, 2)));
+
+        assertThat(leaderboard.findRank(LeaderboardScope.GLOBAL, top)).map(LeaderboardEntry::rank).contains(1L);
+        assertThat(leaderboard.findRank(LeaderboardScope.GLOBAL, bottom)).map(LeaderboardEntry::rank).contains(2L);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 버전의 점수는 무시")
+    void ignoresOutOfOrderScores() {
+        UUID memberId = UUID.randomUUID();
+        leaderboard.updateScores(List.of(new LeaderboardScoreUpdate(memberId, 50, 3)));
+
+        leaderboard.updateScores(List.of(new LeaderboardScoreUpdate(memberId, 30, 2)));
+
+        assertThat(leaderboard.findRank(LeaderboardScope.GLOBAL, memberId))
+                .map(LeaderboardEntry::experience)
+                .contains(50);
+    }
+
+    @Test
+    @DisplayName("마지막 참여자가 나가면 챌린지 리더보드 제거")
+    void dropsEmptyChallengeIndex() {
+        UUID memberId = UUID.randomUUID();
+        leaderboard.join(CHALLENGE_ID, new LeaderboardScore(memberId, 10));
+        assertThat(leaderboard.count(LeaderboardScope.challenge(CHALLENGE_ID))).isEqualTo(1);
+
+        leaderboard.leave(CHALLENGE_ID, memberId);
+
+        assertThat(leaderboard.count(LeaderboardScope.challenge(CHALLENGE_ID))).isZero();
+        leaderboard.join(CHALLENGE_ID, new LeaderboardScore(memberId, 20));
+        assertThat(leaderboard.findRank(LeaderboardScope.challenge(CHALLENGE_ID), memberId))
+                .map(LeaderboardEntry::experience)
+                .contains(20);
+    }
+}
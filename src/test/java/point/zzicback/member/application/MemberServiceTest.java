@@ -1,5 +1,6 @@
 package point.zzicback.member.application;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,13 +11,14 @@ import point.zzicback.common.error.EntityNotFoundException;
 import point.zzicback.member.application.dto.command.CreateMemberCommand;
 import point.zzicback.member.application.dto.command.UpdateMemberCommand;
 import point.zzicback.member.domain.Member;
+import point.zzicback.member.infrastructure.cache.MemberCache;
 
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
-@Import(MemberService.class)
+@Import({MemberService.class, MemberCache.class, SimpleMeterRegistry.class})
 class MemberServiceTest {
   @Autowired
   MemberService memberService;